@@ -0,0 +1,87 @@
+package com.backend.backend.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.payloads.ArticleView;
+import com.backend.backend.utils.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Jackson serialization of an ApiResponse carrying a page of articles,
+ * the largest payload the list endpoints return (article -> edition ->
+ * conference). ENTITY serializes Article entities as the endpoints did
+ * before the read views, VIEW the ArticleView records they return now.
+ * The ObjectMapper is built the way Spring Boot builds the MVC one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    @Param({"ENTITY", "VIEW"})
+    public String payload;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse response;
+
+    @Setup
+    public void setUp() {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Conference conference = new Conference();
+        conference.setId(1);
+        conference.setName("Benchmark conference");
+
+        Edition edition = new Edition();
+        edition.setId(1);
+        edition.setConference(conference);
+        edition.setYear(2024);
+        edition.setDate(new Date());
+        edition.setCity("Benchmark city");
+
+        List<Object> data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            if ("ENTITY".equals(payload)) {
+                Article article = new Article();
+                article.setId(i);
+                article.setTitle("Benchmark article number " + i);
+                article.setEdition(edition);
+                data.add(article);
+            } else {
+                data.add(new ArticleView(i, "Benchmark article number " + i, edition.getId(), conference.getId(), conference.getName(), edition.getYear(), edition.getDate(), edition.getCity()));
+            }
+        }
+        this.response = new ApiResponse("Articles retrieved successfully", true, data, HttpStatus.OK);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.response);
+    }
+}
@@ -0,0 +1,138 @@
+package com.backend.backend.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.backend.BackendApplication;
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Author;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+
+import jakarta.persistence.EntityManager;
+
+/*
+ * Inserts 100k Author rows in transactions of 1000 and reports the time
+ * per row; inserts per second = 1 / score.
+ *
+ * IDENTITY maps Author back to its former AUTO_INCREMENT id through
+ * benchmarks/identity-orm.xml, which forces one round trip per insert;
+ * author.id is still AUTO_INCREMENT, as V1 created it.
+ * POOLED uses the table generator with JDBC batching. Runs on the
+ * in-memory H2 of the test configuration unless spring.datasource.*
+ * is passed as system properties, e.g. a MySQL URL with
+ * rewriteBatchedStatements=true.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(AuthorInsertBenchmark.ROWS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class AuthorInsertBenchmark {
+
+    static final int ROWS = 100_000;
+
+    private static final int CHUNK = 1_000;
+
+    @Param({"IDENTITY", "POOLED"})
+    public String idGeneration;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private int articleId;
+    private int researcherId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of("--spring.jpa.show-sql=false", "--search.researcher.index.enabled=false", "--metrics.method-timing.enabled=false"));
+        if ("IDENTITY".equals(idGeneration)) args.add("--spring.jpa.mapping-resources=benchmarks/identity-orm.xml");
+        // as arguments, so they win over application.properties
+        this.context = new SpringApplicationBuilder(BackendApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+
+        this.transactionTemplate = this.context.getBean(TransactionTemplate.class);
+        this.entityManager = this.context.getBean(EntityManager.class);
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Conference conference = new Conference();
+            conference.setName("Benchmark conference");
+            this.entityManager.persist(conference);
+
+            Edition edition = new Edition();
+            edition.setConference(conference);
+            edition.setYear(2024);
+            edition.setDate(new Date());
+            edition.setCity("Benchmark city");
+            this.entityManager.persist(edition);
+
+            Article article = new Article();
+            article.setTitle("Benchmark article");
+            article.setEdition(edition);
+            this.entityManager.persist(article);
+
+            Researcher researcher = new Researcher();
+            researcher.setName("Bench");
+            researcher.setSurname("Mark");
+            researcher.setSecSurname("Mark");
+            researcher.setUniversity("Benchmark university");
+            this.entityManager.persist(researcher);
+
+            this.entityManager.flush();
+            this.articleId = article.getId();
+            this.researcherId = researcher.getId();
+        });
+    }
+
+    @Benchmark
+    public void insertAuthors() {
+        for (int chunk = 0; chunk < ROWS / CHUNK; chunk++) {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                Article article = this.entityManager.getReference(Article.class, this.articleId);
+                Researcher researcher = this.entityManager.getReference(Researcher.class, this.researcherId);
+                for (int i = 0; i < CHUNK; i++) {
+                    Author author = new Author();
+                    author.setArticle(article);
+                    author.setResearcher(researcher);
+                    this.entityManager.persist(author);
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteAuthors() {
+        this.context.getBean(JdbcTemplate.class).update("delete from author");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+}
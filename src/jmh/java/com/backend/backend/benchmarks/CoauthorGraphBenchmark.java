@@ -0,0 +1,87 @@
+package com.backend.backend.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.backend.backend.graph.CoauthorGraph;
+
+/*
+ * Latency of the co-authorship graph queries on a graph of LINKS author
+ * links, loaded straight into CoauthorGraph without a database. Every
+ * article has AUTHORS_PER_ARTICLE authors, mostly from a group of nearby
+ * ids with some from anywhere, so researchers form loose communities
+ * joined by a few long links, like real collaboration graphs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class CoauthorGraphBenchmark {
+
+    private static final int RESEARCHERS = 200_000;
+    private static final int AUTHORS_PER_ARTICLE = 4;
+    private static final int LINKS = 1_000_000;
+    private static final int COMMUNITY = 1_000;
+    private static final int QUERIES = 1024;
+
+    private final CoauthorGraph coauthorGraph = new CoauthorGraph();
+    private final int[] from = new int[QUERIES];
+    private final int[] to = new int[QUERIES];
+    private int query = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int[] researchers = new int[LINKS];
+        int[] articles = new int[LINKS];
+        for (int i = 0; i < LINKS; i++) {
+            int article = 1 + i / AUTHORS_PER_ARTICLE;
+            int first = researchers[i - i % AUTHORS_PER_ARTICLE];
+            if (i % AUTHORS_PER_ARTICLE == 0) researchers[i] = 1 + random.nextInt(RESEARCHERS);
+            else if (random.nextInt(10) == 0) researchers[i] = 1 + random.nextInt(RESEARCHERS);
+            else researchers[i] = 1 + Math.floorMod(first - 1 + random.nextInt(COMMUNITY) - COMMUNITY / 2, RESEARCHERS);
+            articles[i] = article;
+        }
+        this.coauthorGraph.load(researchers, articles, LINKS);
+
+        for (int q = 0; q < QUERIES; q++) {
+            this.from[q] = 1 + random.nextInt(RESEARCHERS);
+            this.to[q] = 1 + random.nextInt(RESEARCHERS);
+        }
+    }
+
+    private int next() {
+        this.query = (this.query + 1) % QUERIES;
+        return this.query;
+    }
+
+    @Benchmark
+    public Object distance() {
+        int q = next();
+        return this.coauthorGraph.path(this.from[q], this.to[q]);
+    }
+
+    @Benchmark
+    public Object neighbourhood() {
+        return this.coauthorGraph.neighbourhood(this.from[next()], 2, 1000);
+    }
+
+    @Benchmark
+    public Object topCoauthors() {
+        return this.coauthorGraph.topCoauthors(this.from[next()], 10);
+    }
+}
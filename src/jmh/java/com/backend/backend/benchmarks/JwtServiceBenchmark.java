@@ -0,0 +1,57 @@
+package com.backend.backend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.backend.backend.entities.User;
+import com.backend.backend.jwt.JwtService;
+import com.backend.backend.utils.Role;
+
+/*
+ * Cost of issuing a token at login and of the checks the authentication
+ * filter runs on every request: getUsernameFromToken and isTokenValid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        this.jwtService = new JwtService();
+        this.user = new User("ada@example.com", "$2a$10$hash", Role.USER);
+        this.token = this.jwtService.getToken(this.user);
+    }
+
+    @Benchmark
+    public String getToken() {
+        return this.jwtService.getToken(this.user);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return this.jwtService.getUsernameFromToken(this.token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return this.jwtService.isTokenValid(this.token, this.user);
+    }
+}
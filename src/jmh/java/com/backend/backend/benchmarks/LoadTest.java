@@ -0,0 +1,185 @@
+package com.backend.backend.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.backend.BackendApplication;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.User;
+import com.backend.backend.jwt.JwtService;
+import com.backend.backend.repositories.UserRepo;
+import com.backend.backend.utils.Role;
+
+import jakarta.persistence.EntityManager;
+
+/*
+ * Closed-loop HTTP load test: CLIENTS concurrent clients each send a GET,
+ * wait for the response and send the next one, for DURATION seconds
+ * after a warm-up. It boots the application on a random port, seeds the
+ * editions the default path reads and prints throughput and latency
+ * percentiles. Every argument it does not know is passed to Spring, so
+ * the same run compares the thread models and databases:
+ *
+ *   mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main="com.backend.backend.benchmarks.LoadTest --clients=2000"
+ *   mvn -Pbenchmark,java21 test-compile exec:exec -Dbenchmark.main="com.backend.backend.benchmarks.LoadTest --clients=2000 --spring.profiles.active=virtual-threads"
+ *
+ * On the embedded H2 the requests hardly block, so the thread model
+ * matters little; pass --spring.datasource.url/username/password to run
+ * against MySQL, where each request waits on the network.
+ */
+public class LoadTest {
+
+    private static final int EDITIONS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        // devtools would restart the application from this main thread; it only reads the system property
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        int clients = 2_000;
+        int warmup = 10;
+        int duration = 30;
+        String path = "/api/edition/getBetweenYears/1990/2010?page=1&size=20";
+        List<String> springArgs = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.org.springframework.security=INFO",
+            "--logging.level.org.springframework.web=INFO",
+            "--logging.level.org.springframework.http=INFO",
+            "--search.researcher.index.enabled=false"));
+
+        for (String arg : args) {
+            if (arg.startsWith("--clients=")) clients = Integer.parseInt(arg.substring(10));
+            else if (arg.startsWith("--warmup=")) warmup = Integer.parseInt(arg.substring(9));
+            else if (arg.startsWith("--duration=")) duration = Integer.parseInt(arg.substring(11));
+            else if (arg.startsWith("--path=")) path = arg.substring(7);
+            else springArgs.add(arg);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class).run(springArgs.toArray(String[]::new));
+        try {
+            String token = seed(context);
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + path);
+
+            System.out.printf("%s, %d clients, %s%n", Runtime.version(), clients,
+                context.getEnvironment().getProperty("spring.threads.virtual.enabled", "false").equals("true") ? "virtual threads" : "platform threads");
+            run(uri, token, clients, warmup);
+            Result result = run(uri, token, clients, duration);
+            System.out.println(result);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static String seed(ConfigurableApplicationContext context) {
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Conference conference = new Conference();
+            conference.setName("Load test conference");
+            entityManager.persist(conference);
+            for (int i = 0; i < EDITIONS; i++) {
+                Edition edition = new Edition();
+                edition.setConference(conference);
+                edition.setYear(1980 + i % 45);
+                edition.setDate(new Date());
+                edition.setCity("City " + (i % 300));
+                entityManager.persist(edition);
+            }
+        });
+
+        User user = new User("load-test@example.com", "unused", Role.USER);
+        context.getBean(UserRepo.class).save(user);
+        return context.getBean(JwtService.class).getToken(user);
+    }
+
+    private static Result run(URI uri, String token, int clients, int seconds) throws InterruptedException {
+        ExecutorService clientThreads = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .executor(clientThreads)
+            .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Authorization", "Bearer " + token)
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+
+        long end = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        CountDownLatch done = new CountDownLatch(clients);
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        int[] counts = new int[clients];
+
+        for (int c = 0; c < clients; c++) {
+            latencies.add(new long[1024]);
+            int client = c;
+            // each client chains its next request on the completion of the previous one
+            new Runnable() {
+                @Override
+                public void run() {
+                    if (System.nanoTime() >= end) {
+                        done.countDown();
+                        return;
+                    }
+                    long start = System.nanoTime();
+                    httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                        if (failure != null || response.statusCode() != 200) errors.incrementAndGet();
+                        else record(latencies, counts, client, System.nanoTime() - start);
+                        this.run();
+                    });
+                }
+            }.run();
+        }
+
+        done.await();
+        clientThreads.shutdown();
+
+        long total = Arrays.stream(counts).asLongStream().sum();
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(latencies.get(c), 0, all, offset, counts[c]);
+            offset += counts[c];
+        }
+        Arrays.sort(all);
+        return new Result(total, errors.get(), seconds, all);
+    }
+
+    private static void record(List<long[]> latencies, int[] counts, int client, long nanos) {
+        long[] values = latencies.get(client);
+        if (counts[client] == values.length) latencies.set(client, values = Arrays.copyOf(values, values.length * 2));
+        values[counts[client]++] = nanos;
+    }
+
+    private record Result(long requests, long errors, int seconds, long[] sortedLatencies) {
+
+        private double percentileMillis(double p) {
+            if (sortedLatencies.length == 0) return Double.NaN;
+            return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.ceil(p * sortedLatencies.length) - 1)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests, %d errors, %.0f req/s, latency p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms",
+                requests, errors, (double) requests / seconds, percentileMillis(0.50), percentileMillis(0.99), percentileMillis(0.999), percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.backend.benchmarks;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.entities.User;
+import com.backend.backend.payloads.ArticleDTO;
+import com.backend.backend.payloads.EditionDTO;
+import com.backend.backend.payloads.ResearcherDTO;
+import com.backend.backend.payloads.UserDTO;
+import com.backend.backend.utils.Role;
+import com.backend.backend.utils.Transformations;
+
+/*
+ * Cost of one DTO <-> entity mapping through Transformations (MapStruct
+ * generated code) against the reflective ModelMapper it replaced, with
+ * the same default ModelMapper the old Transformations used. Run with the
+ * default -prof gc of the benchmark profile to get gc.alloc.rate.norm,
+ * the bytes allocated per mapping, next to the ns/op score.
+ *
+ * DTOToUser is left out: its BCrypt hash costs milliseconds and would
+ * hide the mapping entirely; userToDTO covers the User mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"MODELMAPPER", "GENERATED"})
+    public String mapper;
+
+    private boolean generated;
+    private ModelMapper modelMapper;
+
+    private ResearcherDTO researcherDTO;
+    private Researcher researcher;
+    private ArticleDTO articleDTO;
+    private Edition edition;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        this.generated = "GENERATED".equals(mapper);
+        this.modelMapper = new ModelMapper();
+
+        this.researcherDTO = new ResearcherDTO();
+        this.researcherDTO.setName("Ada");
+        this.researcherDTO.setSurname("Lovelace");
+        this.researcherDTO.setSecSurname("Byron");
+        this.researcherDTO.setUniversity("University of London");
+
+        this.researcher = new Researcher();
+        this.researcher.setId(7);
+        this.researcher.setName("Ada");
+        this.researcher.setSurname("Lovelace");
+        this.researcher.setSecSurname("Byron");
+        this.researcher.setUniversity("University of London");
+
+        this.articleDTO = new ArticleDTO();
+        this.articleDTO.setTitle("Notes on the Analytical Engine");
+        this.articleDTO.setRef_edition(3);
+
+        Conference conference = new Conference();
+        conference.setId(1);
+        conference.setName("Conference");
+        this.edition = new Edition();
+        this.edition.setId(3);
+        this.edition.setConference(conference);
+        this.edition.setYear(1843);
+        this.edition.setDate(new Date());
+        this.edition.setCity("London");
+
+        this.user = new User("ada@example.com", "$2a$10$hash", Role.USER);
+    }
+
+    @Benchmark
+    public Researcher dtoToResearcher() {
+        return generated ? Transformations.dtoToResearcher(researcherDTO) : modelMapper.map(researcherDTO, Researcher.class);
+    }
+
+    @Benchmark
+    public ResearcherDTO researcherToDTO() {
+        return generated ? Transformations.researcherToDTO(researcher) : modelMapper.map(researcher, ResearcherDTO.class);
+    }
+
+    @Benchmark
+    public Article dtoToArticle() {
+        return generated ? Transformations.dtoToArticle(articleDTO) : modelMapper.map(articleDTO, Article.class);
+    }
+
+    @Benchmark
+    public EditionDTO editionToDTO() {
+        return generated ? Transformations.editionToDTO(edition) : modelMapper.map(edition, EditionDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO userToDTO() {
+        return generated ? Transformations.userToDTO(user) : modelMapper.map(user, UserDTO.class);
+    }
+}
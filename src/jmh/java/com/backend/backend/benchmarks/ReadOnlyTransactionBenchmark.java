@@ -0,0 +1,141 @@
+package com.backend.backend.benchmarks;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.backend.BackendApplication;
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.services.ArticleService;
+
+import jakarta.persistence.EntityManager;
+
+/*
+ * Heap and GC cost of one getAllArticlesPaginated request with
+ * size=500, on the embedded H2 database seeded with ARTICLES articles.
+ * Run it with the gc profiler (the profile default) and compare
+ * gc.alloc.rate.norm, the bytes allocated per request, and gc.count:
+ *
+ *   ENTITIES            500 managed articles (with their editions and
+ *                       conferences) in a read-write transaction, each
+ *                       with a dirty-checking snapshot and a flush at commit
+ *   ENTITIES_READ_ONLY  the same load in a read-only transaction: read-only
+ *                       session, no snapshots, FlushMode.MANUAL
+ *   SERVICE             ArticleService.getAllArticlesPaginated as it is now,
+ *                       a view projection in a read-only transaction
+ *   SERVICE_READ_WRITE  the same call inside a read-write transaction, which
+ *                       it joins, so the projection runs without the
+ *                       read-only session: the baseline for SERVICE
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx512m"})
+public class ReadOnlyTransactionBenchmark {
+
+    private static final int ARTICLES = 5_000;
+    private static final int EDITIONS = 50;
+    private static final int PAGE_SIZE = 500;
+
+    public enum Path {
+        ENTITIES, ENTITIES_READ_ONLY, SERVICE, SERVICE_READ_WRITE
+    }
+
+    @Param({"ENTITIES", "ENTITIES_READ_ONLY", "SERVICE", "SERVICE_READ_WRITE"})
+    public Path path;
+
+    private ConfigurableApplicationContext context;
+    private ArticleService articleService;
+    private ArticleRepo articleRepo;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private int page = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(BackendApplication.class)
+            .web(WebApplicationType.NONE)
+            // as arguments, so they win over application.properties
+            .run("--spring.jpa.show-sql=false", "--search.researcher.index.enabled=false", "--metrics.method-timing.enabled=false");
+
+        this.articleService = this.context.getBean(ArticleService.class);
+        this.articleRepo = this.context.getBean(ArticleRepo.class);
+        PlatformTransactionManager transactionManager = this.context.getBean(PlatformTransactionManager.class);
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        EntityManager entityManager = this.context.getBean(EntityManager.class);
+
+        this.readWrite.executeWithoutResult(status -> {
+            Conference conference = new Conference();
+            conference.setName("Benchmark conference");
+            entityManager.persist(conference);
+
+            Edition[] editions = new Edition[EDITIONS];
+            for (int i = 0; i < EDITIONS; i++) {
+                editions[i] = new Edition();
+                editions[i].setConference(conference);
+                editions[i].setYear(1980 + i);
+                editions[i].setDate(new Date());
+                editions[i].setCity("City " + i);
+                entityManager.persist(editions[i]);
+            }
+
+            for (int i = 0; i < ARTICLES; i++) {
+                Article article = new Article();
+                article.setTitle("Article " + i);
+                article.setEdition(editions[i % EDITIONS]);
+                entityManager.persist(article);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Object articlesPage() {
+        // cycle through the pages so every page is read
+        int current = this.page;
+        this.page = (current + 1) % (ARTICLES / PAGE_SIZE);
+
+        return switch (path) {
+            case ENTITIES -> this.readWrite.execute(status -> loadEntities(current));
+            case ENTITIES_READ_ONLY -> this.readOnly.execute(status -> loadEntities(current));
+            // getAllArticlesPaginated pages are 0-based, like the entity loads
+            case SERVICE -> this.articleService.getAllArticlesPaginated(current, PAGE_SIZE);
+            case SERVICE_READ_WRITE -> this.readWrite.execute(status -> this.articleService.getAllArticlesPaginated(current, PAGE_SIZE));
+        };
+    }
+
+    private List<Article> loadEntities(int page) {
+        return this.articleRepo.findAll(PageRequest.of(page, PAGE_SIZE)).getContent();
+    }
+}
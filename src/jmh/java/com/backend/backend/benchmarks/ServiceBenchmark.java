@@ -0,0 +1,153 @@
+package com.backend.backend.benchmarks;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.backend.BackendApplication;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.search.ResearcherSearchIndex;
+import com.backend.backend.services.EditionService;
+import com.backend.backend.services.ResearcherService;
+import com.backend.backend.utils.ApiResponse;
+
+import jakarta.persistence.EntityManager;
+
+/*
+ * Read paths of ResearcherServiceImpl and EditionServiceImpl against the
+ * in-memory H2 of the test configuration, seeded with RESEARCHERS
+ * researchers and EDITIONS editions. searchIndex toggles the in-memory
+ * researcher index, so the by-name searches are measured both on the
+ * index and on the LIKE query. Like AuthorInsertBenchmark it can run
+ * against MySQL by passing spring.datasource.* as system properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int RESEARCHERS = 10_000;
+    private static final int EDITIONS = 2_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"false", "true"})
+    public boolean searchIndex;
+
+    private ConfigurableApplicationContext context;
+    private ResearcherService researcherService;
+    private EditionService editionService;
+    private int researcherId;
+    private int editionId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        this.context = new SpringApplicationBuilder(BackendApplication.class)
+            .web(WebApplicationType.NONE)
+            // as arguments, so they win over application.properties
+            .run("--spring.jpa.show-sql=false", "--search.researcher.index.enabled=" + searchIndex);
+
+        this.researcherService = this.context.getBean(ResearcherService.class);
+        this.editionService = this.context.getBean(EditionService.class);
+        TransactionTemplate transactionTemplate = this.context.getBean(TransactionTemplate.class);
+        EntityManager entityManager = this.context.getBean(EntityManager.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < RESEARCHERS; i++) {
+                Researcher researcher = new Researcher();
+                researcher.setName("Name" + i);
+                researcher.setSurname("Surname" + (i % 500));
+                researcher.setSecSurname("Second" + (i % 250));
+                researcher.setUniversity("University " + (i % 100));
+                entityManager.persist(researcher);
+                if (i == RESEARCHERS / 2) this.researcherId = researcher.getId();
+            }
+
+            Conference conference = new Conference();
+            conference.setName("Benchmark conference");
+            entityManager.persist(conference);
+            for (int i = 0; i < EDITIONS; i++) {
+                Edition edition = new Edition();
+                edition.setConference(conference);
+                edition.setYear(1980 + i % 45);
+                edition.setDate(new Date());
+                edition.setCity("City " + (i % 300));
+                entityManager.persist(edition);
+                if (i == EDITIONS / 2) this.editionId = edition.getId();
+            }
+        });
+
+        // the startup build may have run before the seeding, index the seeded rows again
+        ResearcherSearchIndex index = this.context.getBean(ResearcherSearchIndex.class);
+        if (searchIndex) {
+            index.rebuild();
+            while (!index.isReady()) Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public ApiResponse researcherById() {
+        return this.researcherService.getResearcherByID(this.researcherId);
+    }
+
+    @Benchmark
+    public ApiResponse researchersPage() {
+        return this.researcherService.getAllResearchersPaginated(10, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ApiResponse researchersBySurname() {
+        return this.researcherService.getResearchersBySurnamePaginated("name42", 1, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public ApiResponse researchersByUniversityWithoutTotal() {
+        return this.researcherService.getResearchersByUniversityPaginated("sity 7", 1, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public ApiResponse editionById() {
+        return this.editionService.getEditionByID(this.editionId);
+    }
+
+    @Benchmark
+    public ApiResponse editionsByYear() {
+        return this.editionService.getEditionsByYearPaginated(2000, 1, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public ApiResponse editionsBetweenYearsByCursor() {
+        return this.editionService.getEditionsBetweenYearsByCursor(1990, 2010, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ApiResponse editionsByCity() {
+        return this.editionService.getEditionsByCityPaginated("ity 12", 1, PAGE_SIZE, true);
+    }
+}
@@ -0,0 +1,76 @@
+package com.backend.backend.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+ * Hibernate second-level cache backed by a local Caffeine JCache provider.
+ * One cache is created per region listed under "cache.regions" in
+ * application.properties, with its own size limit and expiry, and the
+ * resulting CacheManager is handed to Hibernate's JCache region factory.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheConfig.CacheRegionProperties.class)
+public class CacheConfig {
+
+    // Hibernate invalidates cached query results against this region, so it is never bounded or expired
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(CacheRegionProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            if (region.getMaxSize() != null) configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            if (region.getExpireAfterWrite() != null) configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            createIfAbsent(cacheManager, name, configuration);
+        });
+        createIfAbsent(cacheManager, UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String name, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(name) == null) cacheManager.createCache(name, configuration);
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "cache")
+    public static class CacheRegionProperties {
+
+        private Map<String, Region> regions = new HashMap<>();
+
+        @Getter
+        @Setter
+        public static class Region {
+            private Long maxSize;
+            private Duration expireAfterWrite;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.backend.config;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/*
+ * Entities take their ids from pooled table generators backed by the
+ * id_generator table, one row per entity, so Hibernate can batch inserts.
+ * Tables filled while ids were AUTO_INCREMENT already hold rows, so each
+ * missing generator row is seeded past the current maximum id before the
+ * first insert. Rows that already exist are left untouched.
+ */
+@Component
+public class IdGeneratorSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+
+    // must match allocationSize of the @TableGenerator on the entities
+    private static final int ALLOCATION_SIZE = 50;
+
+    // generator segment (pkColumnValue) -> entity table
+    private static final Map<String, String> SEGMENTS = Map.of(
+        "Article", "article",
+        "Author", "author",
+        "Conference", "conference",
+        "Edition", "edition",
+        "Researcher", "researcher");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // the EntityManagerFactory dependency makes sure the schema exists before seeding
+    public IdGeneratorSeeder(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void seed() {
+        SEGMENTS.forEach((segment, table) -> {
+            try {
+                // the pooled optimizer hands out (next_id - ALLOCATION_SIZE, next_id], so the first id is max(id) + 1
+                int seeded = this.jdbcTemplate.update(
+                    "insert into id_generator (entity, next_id) select ?, coalesce(max(id), 0) + ? from " + table
+                        + " where not exists (select 1 from id_generator where entity = ?)",
+                    segment, ALLOCATION_SIZE, segment);
+                if (seeded > 0) log.info("Seeded id generator for {}", segment);
+            } catch (DuplicateKeyException e) {
+                // another instance seeded it first
+            }
+        });
+    }
+}
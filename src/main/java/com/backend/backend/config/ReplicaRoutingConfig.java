@@ -0,0 +1,98 @@
+package com.backend.backend.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.backend.backend.datasource.PrimaryDataSource;
+import com.backend.backend.datasource.ReadYourWritesTracker;
+import com.backend.backend.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+ * Read replica routing, enabled with datasource.replica.enabled=true.
+ * The application DataSource becomes a LazyConnectionDataSourceProxy:
+ * the physical connection is only taken on the first statement, once
+ * Spring has marked the connection of a @Transactional(readOnly = true)
+ * method as read-only. Read-only connections come from
+ * ReplicaRoutingDataSource, which picks a healthy replica round-robin,
+ * and the rest from the spring.datasource primary. Users who committed a
+ * write in the last datasource.replica.sticky-window keep reading from
+ * the primary.
+ *
+ * Every replica gets its own Hikari pool (replica-0, replica-1...), with
+ * the primary's driver and credentials unless set here, published under
+ * the hikaricp.* metrics like the primary pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingConfig.ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(autowireCandidate = false)
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.getStickyWindow());
+    }
+
+    @Bean(autowireCandidate = false, destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getUrls().size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaProperties.getUrls().get(i));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaProperties.getUsername() != null ? replicaProperties.getUsername() : properties.determineUsername());
+            replica.setPassword(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : properties.determinePassword());
+            replica.setReadOnly(true);
+            if (replicaProperties.getMaximumPoolSize() != null) replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource(properties), replicas, readYourWritesTracker(replicaProperties), replicaProperties.getHealthCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+            new PrimaryDataSource(primaryDataSource(properties), readYourWritesTracker(replicaProperties)));
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource(properties, replicaProperties, meterRegistry));
+        return dataSource;
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "datasource.replica")
+    public static class ReplicaProperties {
+
+        private List<String> urls = new ArrayList<>();
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+        private Duration stickyWindow = Duration.ofSeconds(5);
+    }
+}
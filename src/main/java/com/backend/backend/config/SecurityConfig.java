@@ -13,6 +13,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import com.backend.backend.jwt.JwtAuthenticationFilter;
 import com.backend.backend.utils.AuthErrorHandling;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -28,6 +30,8 @@ public class SecurityConfig {
         return http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(authReq -> authReq
+                // the REQUEST dispatch was authorized; the stateless context is gone by the ASYNC and ERROR ones
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .anyRequest().authenticated())
             .exceptionHandling(excep -> excep
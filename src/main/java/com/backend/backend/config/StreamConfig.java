@@ -0,0 +1,44 @@
+package com.backend.backend.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/*
+ * Dedicated pool for the NDJSON read streams. A stream keeps its thread
+ * until the client has read the last row, which for a slow client can be
+ * the whole async request timeout, so the pool is sized for the fan-out
+ * of long-polling clients: stream.threads streams run at once and up to
+ * stream.queue-capacity more wait for a thread; only past both is a
+ * stream rejected and answered 503 by StreamController.
+ *
+ * Connection budget: a stream does not hold a JDBC connection while it
+ * writes, only while StreamServiceImpl reads its next page. So at most
+ * min(stream.threads, Hikari maximum-pool-size) connections serve page
+ * queries at any time, each for one page, and the other requests share
+ * the pool with them. Published under the executor.* metrics with
+ * name=stream.
+ */
+@Configuration
+public class StreamConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService streamExecutor(@Value("${stream.threads:200}") int threads, @Value("${stream.queue-capacity:1000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("stream-"), new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "stream", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
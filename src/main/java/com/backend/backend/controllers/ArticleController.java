@@ -1,10 +1,13 @@
 package com.backend.backend.controllers;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.RestController;
 
 import com.backend.backend.payloads.ArticleDTO;
 import com.backend.backend.services.ArticleService;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 import jakarta.validation.Valid;
 
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/article")
@@ -45,14 +49,38 @@ public class ArticleController {
     }
 
     @GetMapping("/getByID/{id}")
-    public ResponseEntity<ApiResponse> getArticleByID(@Valid @PathVariable("id") Integer id) {
+    public ResponseEntity<ApiResponse> getArticleByID(@Valid @PathVariable("id") Integer id, WebRequest request) {
+        ResourceVersion version = this.articleService.getArticleVersion(id);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
         ApiResponse response = this.articleService.getArticleByID(id);
         return new ResponseEntity<ApiResponse>(response, response.getStatus());
     }
 
+    // GET - Several articles by id, e.g. getByIDs?ids=1,2,3
+    @GetMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> getArticlesByIDs(@RequestParam("ids") List<Integer> ids) {
+        ApiResponse response = this.articleService.getArticlesByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // POST - Several articles by id, the ids as a JSON array in the body for large sets
+    @PostMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> postArticlesByIDs(@RequestBody List<Integer> ids) {
+        ApiResponse response = this.articleService.getArticlesByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
     @GetMapping("/getAll")
-    public ResponseEntity<ApiResponse> getAllArticle(@RequestParam(name = "page", defaultValue = "0") int page, @RequestParam(name = "size", defaultValue = "10") int size) {
-        ApiResponse response = this.articleService.getAllArticlesPaginated(page, size);
+    public ResponseEntity<ApiResponse> getAllArticle(@RequestParam(name = "page", defaultValue = "0") int page, @RequestParam(name = "size", defaultValue = "10") int size, @RequestParam(name = "after", required = false) String after, WebRequest request) {
+        ResourceVersion version = after == null
+            ? this.articleService.getAllArticlesVersion(page, size)
+            : this.articleService.getAllArticlesVersionByCursor(after, size);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
+        ApiResponse response = after == null
+            ? this.articleService.getAllArticlesPaginated(page, size)
+            : this.articleService.getAllArticlesByCursor(after, size);
         return new ResponseEntity<ApiResponse>(response, response.getStatus());
     }
 
@@ -1,5 +1,7 @@
 package com.backend.backend.controllers;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,17 +22,18 @@ public class AuthController {
     @Autowired
     private AuthService authService;
     
+    // the password hashing runs off the request thread, the response is written when it completes
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse> login(@Valid @RequestBody UserDTO user){
-        ApiResponse response = this.authService.login(user);
-        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    public CompletableFuture<ResponseEntity<ApiResponse>> login(@Valid @RequestBody UserDTO user){
+        return this.authService.login(user)
+            .thenApply(response -> new ResponseEntity<ApiResponse>(response, response.getStatus()));
         
     }
 
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse> register(@Valid @RequestBody UserDTO user){
-        ApiResponse response = this.authService.register(user);
-        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    public CompletableFuture<ResponseEntity<ApiResponse>> register(@Valid @RequestBody UserDTO user){
+        return this.authService.register(user)
+            .thenApply(response -> new ResponseEntity<ApiResponse>(response, response.getStatus()));
         
     }
 }
@@ -1,10 +1,13 @@
 package com.backend.backend.controllers;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.RestController;
 
 import com.backend.backend.payloads.AuthorDTO;
 import com.backend.backend.services.AuthorService;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 import jakarta.validation.Valid;
 
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.context.request.WebRequest;
 
 
 
@@ -51,15 +55,39 @@ public class AuthorController {
 
     // GET
     @GetMapping("/getByID/{id}")
-    public ResponseEntity<ApiResponse> getAuthor(@Valid @PathVariable("id") Integer id) {
+    public ResponseEntity<ApiResponse> getAuthor(@Valid @PathVariable("id") Integer id, WebRequest request) {
+        ResourceVersion version = this.authorService.getAuthorVersion(id);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
         ApiResponse response = this.authorService.getAuthorByID(id);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
+    // GET - Several authors by id, e.g. getByIDs?ids=1,2,3
+    @GetMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> getAuthorsByIDs(@RequestParam("ids") List<Integer> ids) {
+        ApiResponse response = this.authorService.getAuthorsByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // POST - Several authors by id, the ids as a JSON array in the body for large sets
+    @PostMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> postAuthorsByIDs(@RequestBody List<Integer> ids) {
+        ApiResponse response = this.authorService.getAuthorsByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
     // GET ALL
     @GetMapping("/getAll")
-    public ResponseEntity<ApiResponse> getAllAuthor(@RequestParam(name = "page", defaultValue = "1") int page, @RequestParam(name = "size", defaultValue = "10") int size) {
-        ApiResponse response = this.authorService.getAllAuthorsPaginated(page, size);
+    public ResponseEntity<ApiResponse> getAllAuthor(@RequestParam(name = "page", defaultValue = "1") int page, @RequestParam(name = "size", defaultValue = "10") int size, @RequestParam(name = "after", required = false) String after, WebRequest request) {
+        ResourceVersion version = after == null
+            ? this.authorService.getAllAuthorsVersion(page, size)
+            : this.authorService.getAllAuthorsVersionByCursor(after, size);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
+        ApiResponse response = after == null
+            ? this.authorService.getAllAuthorsPaginated(page, size)
+            : this.authorService.getAllAuthorsByCursor(after, size);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
     
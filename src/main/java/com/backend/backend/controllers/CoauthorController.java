@@ -0,0 +1,52 @@
+package com.backend.backend.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.backend.services.CoauthorService;
+import com.backend.backend.utils.ApiResponse;
+
+/**
+ * REST Controller for the co-authorship graph: collaboration distance,
+ * neighbourhood and most frequent co-authors of researchers.
+ */
+@RestController
+@RequestMapping("/api/coauthors")
+public class CoauthorController {
+
+    @Autowired
+    private CoauthorService coauthorService;
+
+    // GET - Shortest chain of co-authors between two researchers, e.g. distance/1/2
+    @GetMapping("/distance/{from}/{to}")
+    public ResponseEntity<ApiResponse> getCollaborationPath(@PathVariable("from") Integer from, @PathVariable("to") Integer to) {
+        ApiResponse response = this.coauthorService.getCollaborationPath(from, to);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // GET - Researchers within some co-authorships, e.g. neighbourhood/1?hops=2&limit=100
+    @GetMapping("/neighbourhood/{id}")
+    public ResponseEntity<ApiResponse> getNeighbourhood(@PathVariable("id") Integer id, @RequestParam(name = "hops", defaultValue = "2", required = false) Integer hops, @RequestParam(name = "limit", defaultValue = "100", required = false) Integer limit) {
+        ApiResponse response = this.coauthorService.getNeighbourhood(id, hops, limit);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    @GetMapping("/top/{id}")
+    public ResponseEntity<ApiResponse> getTopCoauthors(@PathVariable("id") Integer id, @RequestParam(name = "limit", defaultValue = "10", required = false) Integer limit) {
+        ApiResponse response = this.coauthorService.getTopCoauthors(id, limit);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // POST - Reload the graph from the database, e.g. after writes made outside the API
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse> rebuildGraph() {
+        ApiResponse response = this.coauthorService.rebuildGraph();
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+}
@@ -1,10 +1,13 @@
 package com.backend.backend.controllers;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.RestController;
 
 import com.backend.backend.payloads.ConferenceDTO;
 import com.backend.backend.services.ConferenceService;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 import jakarta.validation.Valid;
 
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST Controller for managing conference-related operations.
@@ -49,20 +53,44 @@ public class ConferenceController {
     }
 
     @GetMapping("/getByID/{id}")
-    public ResponseEntity<ApiResponse> getConference(@Valid @PathVariable("id") Integer id) {
+    public ResponseEntity<ApiResponse> getConference(@Valid @PathVariable("id") Integer id, WebRequest request) {
+        ResourceVersion version = this.conferenceService.getConferenceVersion(id);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
         ApiResponse response = this.conferenceService.getConferenceByID(id);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
+    // GET - Several conferences by id, e.g. getByIDs?ids=1,2,3
+    @GetMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> getConferencesByIDs(@RequestParam("ids") List<Integer> ids) {
+        ApiResponse response = this.conferenceService.getConferencesByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // POST - Several conferences by id, the ids as a JSON array in the body for large sets
+    @PostMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> postConferencesByIDs(@RequestBody List<Integer> ids) {
+        ApiResponse response = this.conferenceService.getConferencesByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
     @GetMapping("/getAll")
-    public ResponseEntity<ApiResponse> getAllConferencePaginated(@RequestParam(name = "page", defaultValue = "1", required = false) int page, @RequestParam(name = "", defaultValue = "10", required = false) int size) {
-        ApiResponse response = this.conferenceService.getAllConferencesPaginated(page, size);
+    public ResponseEntity<ApiResponse> getAllConferencePaginated(@RequestParam(name = "page", defaultValue = "1", required = false) int page, @RequestParam(name = "", defaultValue = "10", required = false) int size, @RequestParam(name = "after", required = false) String after, WebRequest request) {
+        ResourceVersion version = after == null
+            ? this.conferenceService.getAllConferencesVersion(page, size)
+            : this.conferenceService.getAllConferencesVersionByCursor(after, size);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
+        ApiResponse response = after == null
+            ? this.conferenceService.getAllConferencesPaginated(page, size)
+            : this.conferenceService.getAllConferencesByCursor(after, size);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
     @GetMapping("/getByName/{name}")
-    public ResponseEntity<ApiResponse> getConferencesByName(@Valid @PathVariable("name") String name, @RequestParam(name = "page", defaultValue = "1", required = false) int page, @RequestParam(name = "size", defaultValue = "10", required = false) int size){
-        ApiResponse response = this.conferenceService.getConferencesByNamePaginated(name, page, size);
+    public ResponseEntity<ApiResponse> getConferencesByName(@Valid @PathVariable("name") String name, @RequestParam(name = "page", defaultValue = "1", required = false) int page, @RequestParam(name = "size", defaultValue = "10", required = false) int size, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal){
+        ApiResponse response = this.conferenceService.getConferencesByNamePaginated(name, page, size, withTotal);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 }
@@ -1,5 +1,7 @@
 package com.backend.backend.controllers;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,10 +14,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.backend.backend.payloads.EditionDTO;
 import com.backend.backend.services.EditionService;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 import jakarta.validation.Valid;
 
@@ -46,38 +50,68 @@ public class EditionController {
     }
 
     @GetMapping("/getByID/{id}")
-    public ResponseEntity<ApiResponse> getEditionById(@PathVariable("id") Integer id){
+    public ResponseEntity<ApiResponse> getEditionById(@PathVariable("id") Integer id, WebRequest request) {
+        ResourceVersion version = this.editionService.getEditionVersion(id);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
         ApiResponse response = this.editionService.getEditionByID(id);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
+    // GET - Several editions by id, e.g. getByIDs?ids=1,2,3
+    @GetMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> getEditionsByIDs(@RequestParam("ids") List<Integer> ids) {
+        ApiResponse response = this.editionService.getEditionsByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // POST - Several editions by id, the ids as a JSON array in the body for large sets
+    @PostMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> postEditionsByIDs(@RequestBody List<Integer> ids) {
+        ApiResponse response = this.editionService.getEditionsByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
     @GetMapping("/getAll")
-    public ResponseEntity<ApiResponse> getAllEditions(@RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size){
-        ApiResponse response = this.editionService.getAllEditionsPaginated(page, size);
+    public ResponseEntity<ApiResponse> getAllEditions(@RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "after", required = false) String after, WebRequest request) {
+        ResourceVersion version = after == null
+            ? this.editionService.getAllEditionsVersion(page, size)
+            : this.editionService.getAllEditionsVersionByCursor(after, size);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
+        ApiResponse response = after == null
+            ? this.editionService.getAllEditionsPaginated(page, size)
+            : this.editionService.getAllEditionsByCursor(after, size);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
     @GetMapping("/getByYear/{year}")
-    public ResponseEntity<ApiResponse> getEditionByYear(@PathVariable("year") Integer year, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size){
-        ApiResponse response = this.editionService.getEditionsByYearPaginated(year, page, size);
+    public ResponseEntity<ApiResponse> getEditionByYear(@PathVariable("year") Integer year, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "after", required = false) String after, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal){
+        ApiResponse response = after == null
+            ? this.editionService.getEditionsByYearPaginated(year, page, size, withTotal)
+            : this.editionService.getEditionsByYearByCursor(year, after, size);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
     @GetMapping("/getBetweenYears/{startYear}/{endYear}")
-    public ResponseEntity<ApiResponse> getEditionBetweenYears(@PathVariable("startYear") Integer startYear, @PathVariable("endYear") Integer endYear, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size){
-        ApiResponse response = this.editionService.getEditionsBetweenYearsPaginated(startYear, endYear, page, size);
+    public ResponseEntity<ApiResponse> getEditionBetweenYears(@PathVariable("startYear") Integer startYear, @PathVariable("endYear") Integer endYear, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "after", required = false) String after, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal){
+        ApiResponse response = after == null
+            ? this.editionService.getEditionsBetweenYearsPaginated(startYear, endYear, page, size, withTotal)
+            : this.editionService.getEditionsBetweenYearsByCursor(startYear, endYear, after, size);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
     
     @GetMapping("/getByCity/{city}")
-    public ResponseEntity<ApiResponse> getEditionByCity(@PathVariable("city") String city, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size){
-        ApiResponse response = this.editionService.getEditionsByCityPaginated(city, page, size);
+    public ResponseEntity<ApiResponse> getEditionByCity(@PathVariable("city") String city, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "after", required = false) String after, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal){
+        ApiResponse response = after == null
+            ? this.editionService.getEditionsByCityPaginated(city, page, size, withTotal)
+            : this.editionService.getEditionsByCityByCursor(city, after, size);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
     @GetMapping("/getByDate/{date}")
-    public ResponseEntity<ApiResponse> getEditionByDate(@PathVariable("date") String date, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size){
-        ApiResponse response = this.editionService.getEditionsByDatePaginated(date, page, size);
+    public ResponseEntity<ApiResponse> getEditionByDate(@PathVariable("date") String date, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal){
+        ApiResponse response = this.editionService.getEditionsByDatePaginated(date, page, size, withTotal);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
@@ -0,0 +1,82 @@
+package com.backend.backend.controllers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.backend.backend.services.ExportService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    // GET - Every researcher as NDJSON
+    @GetMapping("/researchers")
+    public ResponseEntity<StreamingResponseBody> exportResearchers(@RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        return ndjson("researchers", gzip, this.exportService::exportResearchers);
+    }
+
+    // GET - Every conference as NDJSON
+    @GetMapping("/conferences")
+    public ResponseEntity<StreamingResponseBody> exportConferences(@RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        return ndjson("conferences", gzip, this.exportService::exportConferences);
+    }
+
+    // GET - Every edition as NDJSON
+    @GetMapping("/editions")
+    public ResponseEntity<StreamingResponseBody> exportEditions(@RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        return ndjson("editions", gzip, this.exportService::exportEditions);
+    }
+
+    // GET - Every article as NDJSON
+    @GetMapping("/articles")
+    public ResponseEntity<StreamingResponseBody> exportArticles(@RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        return ndjson("articles", gzip, this.exportService::exportArticles);
+    }
+
+    // GET - Every author as NDJSON
+    @GetMapping("/authors")
+    public ResponseEntity<StreamingResponseBody> exportAuthors(@RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
+        return ndjson("authors", gzip, this.exportService::exportAuthors);
+    }
+
+    private interface Export {
+        long write(OutputStream out) throws IOException;
+    }
+
+    // the body is written on the async request thread, after the headers are sent
+    private ResponseEntity<StreamingResponseBody> ndjson(String name, boolean gzip, Export export) {
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                export.write(out);
+                return;
+            }
+            GZIPOutputStream zipped = new GZIPOutputStream(out, 64 * 1024);
+            export.write(zipped);
+            zipped.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + ".ndjson\"");
+        if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response.body(body);
+    }
+
+}
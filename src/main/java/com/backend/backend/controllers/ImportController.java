@@ -0,0 +1,34 @@
+package com.backend.backend.controllers;
+
+import java.io.InputStream;
+
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.backend.services.ImportService;
+import com.backend.backend.utils.ApiResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    @Autowired
+    private ImportService importService;
+
+    // POST - Bulk import of researchers, articles and authors from a NDJSON or CSV body
+    @PostMapping(value = {"", "/"}, consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<ApiResponse> importRows(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        ApiResponse response = this.importService.importRows(body, contentType);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+}
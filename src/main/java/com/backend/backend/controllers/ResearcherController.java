@@ -1,5 +1,7 @@
 package com.backend.backend.controllers;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,9 +17,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.backend.backend.payloads.ResearcherDTO;
 import com.backend.backend.services.ResearcherService;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 
 @RestController
@@ -46,38 +50,62 @@ public class ResearcherController {
     }
 
     @GetMapping("/getByID/{id}")
-    public ResponseEntity<ApiResponse> getResearcher(@PathVariable("id") Integer id) {
+    public ResponseEntity<ApiResponse> getResearcher(@PathVariable("id") Integer id, WebRequest request) {
+        ResourceVersion version = this.researcherService.getResearcherVersion(id);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
         ApiResponse response = this.researcherService.getResearcherByID(id);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
+    // GET - Several researchers by id, e.g. getByIDs?ids=1,2,3
+    @GetMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> getResearchersByIDs(@RequestParam("ids") List<Integer> ids) {
+        ApiResponse response = this.researcherService.getResearchersByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // POST - Several researchers by id, the ids as a JSON array in the body for large sets
+    @PostMapping("/getByIDs")
+    public ResponseEntity<ApiResponse> postResearchersByIDs(@RequestBody List<Integer> ids) {
+        ApiResponse response = this.researcherService.getResearchersByIDs(ids);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
     @GetMapping("/getAll")
-    public ResponseEntity<ApiResponse> getAllResearcherPaginated(@RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size) {
-        ApiResponse response = this.researcherService.getAllResearchersPaginated(page, size);
+    public ResponseEntity<ApiResponse> getAllResearcherPaginated(@RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "after", required = false) String after, WebRequest request) {
+        ResourceVersion version = after == null
+            ? this.researcherService.getAllResearchersVersion(page, size)
+            : this.researcherService.getAllResearchersVersionByCursor(after, size);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) return null;
+
+        ApiResponse response = after == null
+            ? this.researcherService.getAllResearchersPaginated(page, size)
+            : this.researcherService.getAllResearchersByCursor(after, size);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
     
     @GetMapping("/getByName/{name}")
-    public ResponseEntity<ApiResponse> getResearcherByName(@PathVariable("name") String name, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size) {
-        ApiResponse response = this.researcherService.getResearchersByNamePaginated(name, page, size);
+    public ResponseEntity<ApiResponse> getResearcherByName(@PathVariable("name") String name, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal) {
+        ApiResponse response = this.researcherService.getResearchersByNamePaginated(name, page, size, withTotal);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
     @GetMapping("/getByUniversity/{university}")
-    public ResponseEntity<ApiResponse> getResearcherByUniversity(@PathVariable("university") String university, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size) {
-        ApiResponse response = this.researcherService.getResearchersByUniversityPaginated(university, page, size);
+    public ResponseEntity<ApiResponse> getResearcherByUniversity(@PathVariable("university") String university, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal) {
+        ApiResponse response = this.researcherService.getResearchersByUniversityPaginated(university, page, size, withTotal);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
     @GetMapping("/getBySurname/{surname}")
-    public ResponseEntity<ApiResponse> getResearcherBySurname(@PathVariable("surname") String surname, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size) {
-        ApiResponse response = this.researcherService.getResearchersBySurnamePaginated(surname, page, size);
+    public ResponseEntity<ApiResponse> getResearcherBySurname(@PathVariable("surname") String surname, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal) {
+        ApiResponse response = this.researcherService.getResearchersBySurnamePaginated(surname, page, size, withTotal);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
 
     @GetMapping("/getBySecSurname/{secSurname}")
-    public ResponseEntity<ApiResponse> getResearcherBySecSurname(@PathVariable("secSurname") String secSurname, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size) {
-        ApiResponse response = this.researcherService.getResearchersBySecSurnamePaginated(secSurname, page, size);
+    public ResponseEntity<ApiResponse> getResearcherBySecSurname(@PathVariable("secSurname") String secSurname, @RequestParam(name = "page", defaultValue = "1", required = false) Integer page, @RequestParam(name = "size", defaultValue = "10", required = false) Integer size, @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal) {
+        ApiResponse response = this.researcherService.getResearchersBySecSurnamePaginated(secSurname, page, size, withTotal);
         return new ResponseEntity<ApiResponse>(response, HttpStatus.OK);
     }
     
@@ -0,0 +1,68 @@
+package com.backend.backend.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.backend.services.StatisticsService;
+import com.backend.backend.utils.ApiResponse;
+
+/**
+ * REST Controller for the publication statistics: papers per researcher,
+ * papers per edition and editions per conference.
+ */
+@RestController
+@RequestMapping("/api/statistics")
+public class StatisticsController {
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @GetMapping("/papersPerResearcher/{id}")
+    public ResponseEntity<ApiResponse> getPapersByResearcher(@PathVariable("id") Integer id) {
+        ApiResponse response = this.statisticsService.getPapersByResearcher(id);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    @GetMapping("/papersPerEdition/{id}")
+    public ResponseEntity<ApiResponse> getPapersByEdition(@PathVariable("id") Integer id) {
+        ApiResponse response = this.statisticsService.getPapersByEdition(id);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    @GetMapping("/editionsPerConference/{id}")
+    public ResponseEntity<ApiResponse> getEditionsByConference(@PathVariable("id") Integer id) {
+        ApiResponse response = this.statisticsService.getEditionsByConference(id);
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // GET - Every count at once, as a map from id to count, for the reporting pages
+    @GetMapping("/papersPerResearcher")
+    public ResponseEntity<ApiResponse> getAllPapersByResearcher() {
+        ApiResponse response = this.statisticsService.getAllPapersByResearcher();
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    @GetMapping("/papersPerEdition")
+    public ResponseEntity<ApiResponse> getAllPapersByEdition() {
+        ApiResponse response = this.statisticsService.getAllPapersByEdition();
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    @GetMapping("/editionsPerConference")
+    public ResponseEntity<ApiResponse> getAllEditionsByConference() {
+        ApiResponse response = this.statisticsService.getAllEditionsByConference();
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+
+    // POST - Recount everything in the database, e.g. after writes made outside the API
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse> rebuildStatistics() {
+        ApiResponse response = this.statisticsService.rebuildStatistics();
+        return new ResponseEntity<ApiResponse>(response, response.getStatus());
+    }
+}
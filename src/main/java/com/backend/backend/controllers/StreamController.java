@@ -0,0 +1,146 @@
+package com.backend.backend.controllers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.backend.backend.services.StreamService;
+import com.backend.backend.utils.ApiResponse;
+
+/*
+ * Streamed counterparts of the read endpoints for high fan-out clients:
+ * the whole result as application/x-ndjson, written on the stream pool
+ * so the Tomcat thread returns to its pool as soon as the headers are
+ * committed. A stream holds its pool thread until the client is done, so
+ * the pool and its queue are bounded (see StreamConfig) and a request
+ * that finds both full is answered 503.
+ */
+@RestController
+@RequestMapping("/api/stream")
+public class StreamController {
+
+    @Autowired
+    private StreamService streamService;
+
+    @Autowired
+    @Qualifier("streamExecutor")
+    private ExecutorService streamExecutor;
+
+    // GET - Editions of a year
+    @GetMapping("/edition/getByYear/{year}")
+    public ResponseEntity<ResponseBodyEmitter> streamEditionsByYear(@PathVariable("year") Integer year) {
+        return ndjson(out -> this.streamService.streamEditionsByYear(year, out));
+    }
+
+    // GET - Editions between two years
+    @GetMapping("/edition/getBetweenYears/{startYear}/{endYear}")
+    public ResponseEntity<ResponseBodyEmitter> streamEditionsBetweenYears(@PathVariable("startYear") Integer startYear, @PathVariable("endYear") Integer endYear) {
+        return ndjson(out -> this.streamService.streamEditionsBetweenYears(startYear, endYear, out));
+    }
+
+    // GET - Editions by city
+    @GetMapping("/edition/getByCity/{city}")
+    public ResponseEntity<ResponseBodyEmitter> streamEditionsByCity(@PathVariable("city") String city) {
+        return ndjson(out -> this.streamService.streamEditionsByCity(city, out));
+    }
+
+    // GET - Every conference
+    @GetMapping("/conference/getAll")
+    public ResponseEntity<ResponseBodyEmitter> streamConferences() {
+        return ndjson(this.streamService::streamConferences);
+    }
+
+    // GET - Conferences by name
+    @GetMapping("/conference/getByName/{name}")
+    public ResponseEntity<ResponseBodyEmitter> streamConferencesByName(@PathVariable("name") String name) {
+        return ndjson(out -> this.streamService.streamConferencesByName(name, out));
+    }
+
+    // GET - Researchers by name
+    @GetMapping("/researcher/getByName/{name}")
+    public ResponseEntity<ResponseBodyEmitter> streamResearchersByName(@PathVariable("name") String name) {
+        return ndjson(out -> this.streamService.streamResearchersByName(name, out));
+    }
+
+    // GET - Researchers by university
+    @GetMapping("/researcher/getByUniversity/{university}")
+    public ResponseEntity<ResponseBodyEmitter> streamResearchersByUniversity(@PathVariable("university") String university) {
+        return ndjson(out -> this.streamService.streamResearchersByUniversity(university, out));
+    }
+
+    private interface Rows {
+        long write(OutputStream out) throws IOException;
+    }
+
+    private ResponseEntity<ResponseBodyEmitter> ndjson(Rows rows) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            this.streamExecutor.execute(() -> {
+                try (OutputStream out = new EmitterOutputStream(emitter)) {
+                    rows.write(out);
+                } catch (Exception e) {
+                    emitter.completeWithError(e);
+                    return;
+                }
+                emitter.complete();
+            });
+        } catch (RejectedExecutionException e) {
+            return busy();
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(emitter);
+    }
+
+    private static ResponseEntity<ResponseBodyEmitter> busy() {
+        ApiResponse response = new ApiResponse("Too many streams in progress, try again later", false, null, HttpStatus.SERVICE_UNAVAILABLE);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            emitter.send(response, MediaType.APPLICATION_JSON);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.status(response.getStatus())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(emitter);
+    }
+
+    // buffers the rows between the flushes of the service and sends them as one chunk
+    private static final class EmitterOutputStream extends ByteArrayOutputStream {
+
+        private final ResponseBodyEmitter emitter;
+
+        EmitterOutputStream(ResponseBodyEmitter emitter) {
+            super(8192);
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (size() == 0) return;
+            this.emitter.send(toByteArray(), MediaType.APPLICATION_NDJSON);
+            reset();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.backend.backend.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/*
+ * The read-write side of the routing: every connection that is not for
+ * a read-only transaction comes from the primary through here, and the
+ * ones taken inside a read-write transaction make the current user
+ * sticky once it commits.
+ */
+public class PrimaryDataSource extends DelegatingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+
+    public PrimaryDataSource(DataSource primary, ReadYourWritesTracker tracker) {
+        super(primary);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        tracker.onPrimaryConnection();
+        return super.getConnection();
+    }
+}
@@ -0,0 +1,64 @@
+package com.backend.backend.datasource;
+
+import java.time.Duration;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/*
+ * Remembers which users committed a write in the last sticky window, so
+ * their reads go to the primary until the replicas have caught up. The
+ * user is the name of the authenticated principal; anonymous requests
+ * never write, and are never sticky.
+ *
+ * The window starts when the write transaction commits, not when it
+ * begins, so a long write still gets the full window afterwards.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(stickyWindow)
+            .maximumSize(100_000)
+            .build();
+    }
+
+    /**
+     * Called when a connection to the primary is taken. Inside a read-write
+     * transaction, the current user becomes sticky once it commits.
+     */
+    public void onPrimaryConnection() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return;
+
+        String user = currentUser();
+        if (user == null) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * Whether the current user wrote within the sticky window.
+     */
+    public boolean isSticky() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
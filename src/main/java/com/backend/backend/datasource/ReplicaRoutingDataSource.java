@@ -0,0 +1,120 @@
+package com.backend.backend.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/*
+ * The read-only side of the routing: connections of read-only
+ * transactions come from here. Replicas are used round-robin, skipping
+ * those marked down. A replica is marked down when handing out a
+ * connection fails, and the health check brings it back once it answers
+ * isValid again. With no replica up, or when the current user is sticky
+ * after a write (ReadYourWritesTracker), the connection comes from the
+ * primary instead.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReadYourWritesTracker tracker;
+
+    // 1 while the replica is up
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthCheck;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.tracker = tracker;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) this.healthy.set(i, 1);
+
+        this.healthCheck = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = healthCheckInterval.toMillis();
+        this.healthCheck.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty() || tracker.isSticky()) return primary.getConnection();
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+            if (!isHealthy(replica)) continue;
+            try {
+                return replicas.get(replica).getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    // the replica pools carry their own credentials, so explicit ones can only be for the primary
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Validates every replica and updates its health.
+     */
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            try (Connection connection = replicas.get(i).getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUp(i);
+                } else {
+                    markDown(i, null);
+                }
+            } catch (SQLException e) {
+                markDown(i, e);
+            }
+        }
+    }
+
+    public boolean isHealthy(int replica) {
+        return healthy.get(replica) == 1;
+    }
+
+    private void markUp(int replica) {
+        if (healthy.compareAndSet(replica, 0, 1)) log.info("Replica {} is back up", replica);
+    }
+
+    private void markDown(int replica, SQLException cause) {
+        if (healthy.compareAndSet(replica, 1, 0)) log.warn("Replica {} is down, its reads go to the other replicas or the primary", replica, cause);
+    }
+
+    @Override
+    public void close() throws IOException {
+        healthCheck.shutdownNow();
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) closeable.close();
+        }
+    }
+}
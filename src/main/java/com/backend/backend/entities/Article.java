@@ -1,7 +1,12 @@
 package com.backend.backend.entities;
 
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +16,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,7 +31,8 @@ import lombok.Setter;
 public class Article {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_id")
+    @TableGenerator(name = "article_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id", pkColumnValue = "Article", allocationSize = 50)
     @Column(name = "id", nullable = false, unique = true)
     private int id;
     
@@ -35,5 +43,14 @@ public class Article {
     @JoinColumn(name = "ref_edition", referencedColumnName = "id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Edition edition;
-    
+
+    @JsonIgnore
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    private Instant lastModified;
 }
@@ -1,11 +1,22 @@
 package com.backend.backend.entities;
 
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,13 +27,26 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity(name = "Conference")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "conference")
 public class Conference {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "conference_id")
+    @TableGenerator(name = "conference_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id", pkColumnValue = "Conference", allocationSize = 50)
     @Column(name = "id", nullable = false, unique = true)
     private int id;
 
     @Column(name = "name", nullable = false, length = 128)
     private String name;
+
+    @JsonIgnore
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    private Instant lastModified;
 }
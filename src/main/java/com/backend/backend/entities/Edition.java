@@ -1,7 +1,15 @@
 package com.backend.backend.entities;
 
+import java.time.Instant;
 import java.util.Date;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -10,8 +18,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -24,13 +34,16 @@ import lombok.Setter;
 @NoArgsConstructor
 @Entity(name = "Edition")
 @Table(name = "Edition")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "edition")
 public class Edition {
 
     /*
      * Unique identifier of the edition.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "edition_id")
+    @TableGenerator(name = "edition_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id", pkColumnValue = "Edition", allocationSize = 50)
     private int id;
 
     /**
@@ -58,4 +71,20 @@ public class Edition {
      */
     @Column(name = "city", nullable = false, length = 64)
     private String city;
+
+    /**
+     * Optimistic lock counter, incremented on every update. Read by the ETags of the read endpoints.
+     */
+    @JsonIgnore
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Time of the last insert or update, sent as Last-Modified.
+     */
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    private Instant lastModified;
 }
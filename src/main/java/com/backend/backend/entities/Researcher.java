@@ -1,11 +1,19 @@
 package com.backend.backend.entities;
 
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,7 +37,8 @@ import lombok.Setter;
 public class Researcher {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "researcher_id")
+    @TableGenerator(name = "researcher_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id", pkColumnValue = "Researcher", allocationSize = 50)
     private int id;
     
     @Column(name = "name", nullable = false, length = 64)
@@ -43,4 +52,14 @@ public class Researcher {
     
     @Column(name = "university", nullable = false, length = 64)
     private String university;
+
+    @JsonIgnore
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    private Instant lastModified;
 }
@@ -0,0 +1,159 @@
+package com.backend.backend.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * One direction of the bipartite Researcher-Article graph, e.g. the
+ * articles of every researcher, in compressed sparse row form: the
+ * neighbours of node n are targets[offsets[n]] to targets[offsets[n + 1] - 1],
+ * with nodes keyed directly by entity id.
+ *
+ * A CSR cannot grow in place, so a node changed after the build gets its
+ * whole neighbour list copied into an override array, which replaces its
+ * CSR range until the next compaction folds the overrides back in.
+ * Neighbour lists are multisets, like the Author table: the same link
+ * can appear twice and a removal takes out one occurrence.
+ *
+ * Not thread safe; CoauthorGraph guards it with its lock.
+ */
+final class Adjacency {
+
+    private static final int[] NONE = new int[0];
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final Map<Integer, int[]> overrides = new HashMap<>();
+
+    // one past the largest node id, CSR and overrides together
+    private int nodeLimit;
+    private int links;
+
+    private Adjacency(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.nodeLimit = offsets.length - 1;
+        this.links = targets.length;
+    }
+
+    static Adjacency empty() {
+        return new Adjacency(new int[1], NONE);
+    }
+
+    /**
+     * Builds the CSR of the first size pairs with a counting sort on the
+     * sources; the targets of a node keep the order of the pairs.
+     */
+    static Adjacency of(int[] sources, int[] destinations, int size) {
+        int nodes = 0;
+        for (int i = 0; i < size; i++) nodes = Math.max(nodes, sources[i] + 1);
+
+        int[] offsets = new int[nodes + 1];
+        for (int i = 0; i < size; i++) offsets[sources[i] + 1]++;
+        for (int n = 0; n < nodes; n++) offsets[n + 1] += offsets[n];
+
+        int[] targets = new int[size];
+        int[] next = Arrays.copyOf(offsets, nodes);
+        for (int i = 0; i < size; i++) targets[next[sources[i]]++] = destinations[i];
+
+        return new Adjacency(offsets, targets);
+    }
+
+    int nodeLimit() {
+        return nodeLimit;
+    }
+
+    int links() {
+        return links;
+    }
+
+    int overrides() {
+        return overrides.size();
+    }
+
+    /**
+     * The neighbours of a node, without copying: returns the array holding
+     * them and sets range[0] and range[1] to their start and end in it.
+     */
+    int[] neighbours(int node, int[] range) {
+        int[] override = overrides.isEmpty() ? null : overrides.get(node);
+        if (override != null) {
+            range[0] = 0;
+            range[1] = override.length;
+            return override;
+        }
+        if (node < 0 || node >= offsets.length - 1) {
+            range[0] = 0;
+            range[1] = 0;
+            return NONE;
+        }
+        range[0] = offsets[node];
+        range[1] = offsets[node + 1];
+        return targets;
+    }
+
+    int degree(int node) {
+        int[] range = new int[2];
+        neighbours(node, range);
+        return range[1] - range[0];
+    }
+
+    void add(int node, int target) {
+        int[] range = new int[2];
+        int[] current = neighbours(node, range);
+        int length = range[1] - range[0];
+
+        int[] updated = new int[length + 1];
+        System.arraycopy(current, range[0], updated, 0, length);
+        updated[length] = target;
+        overrides.put(node, updated);
+
+        nodeLimit = Math.max(nodeLimit, node + 1);
+        links++;
+    }
+
+    /**
+     * Removes one occurrence of the target, if the node has it.
+     */
+    void remove(int node, int target) {
+        int[] range = new int[2];
+        int[] current = neighbours(node, range);
+        int at = -1;
+        for (int i = range[0]; i < range[1]; i++) {
+            if (current[i] == target) {
+                at = i;
+                break;
+            }
+        }
+        if (at < 0) return;
+
+        int length = range[1] - range[0];
+        int[] updated = new int[length - 1];
+        System.arraycopy(current, range[0], updated, 0, at - range[0]);
+        System.arraycopy(current, at + 1, updated, at - range[0], range[1] - at - 1);
+        overrides.put(node, updated);
+        links--;
+    }
+
+    /**
+     * A fresh CSR with the overrides folded in.
+     */
+    Adjacency compact() {
+        int nodes = nodeLimit;
+        int[] compactOffsets = new int[nodes + 1];
+        int[] range = new int[2];
+        for (int n = 0; n < nodes; n++) {
+            neighbours(n, range);
+            compactOffsets[n + 1] = compactOffsets[n] + range[1] - range[0];
+        }
+
+        int[] compactTargets = new int[compactOffsets[nodes]];
+        for (int n = 0; n < nodes; n++) {
+            int[] array = neighbours(n, range);
+            System.arraycopy(array, range[0], compactTargets, compactOffsets[n], range[1] - range[0]);
+        }
+
+        return new Adjacency(compactOffsets, compactTargets);
+    }
+}
@@ -0,0 +1,383 @@
+package com.backend.backend.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.backend.backend.payloads.AuthorLink;
+import com.backend.backend.payloads.CollaborationPath;
+import com.backend.backend.payloads.IdCount;
+import com.backend.backend.payloads.ResearcherDistance;
+import com.backend.backend.repositories.AuthorRepo;
+import com.backend.backend.utils.RebuildableSnapshot;
+
+/*
+ * In-memory co-authorship graph over the Author table. Author rows link
+ * researchers to articles, so two researchers are co-authors when they
+ * share an article. The graph keeps both directions of those links as
+ * CSR int arrays keyed by id (the articles of every researcher, the
+ * researchers of every article) and walks researcher -> article ->
+ * researcher, so it never materializes the co-author pairs, which grow
+ * with the square of the authors per article.
+ *
+ * The graph is built from the Author table once the application is ready
+ * and kept current by the services, which add and remove links after an
+ * author is saved or deleted. Changed nodes live in small override
+ * arrays until they are compacted back into the CSR. Until the first
+ * build finishes isReady() is false and the queries are not answered.
+ *
+ * Writes that skip the services make the graph drift, so it is rebuilt on
+ * graph.coauthors.rebuild.cron and on demand. Queries keep using the
+ * current graph while a rebuild loads the table; the links changed
+ * meanwhile are replayed on the new one before it replaces the current one.
+ * Queries take the read lock; link changes, compactions and the swap of a
+ * rebuild (RebuildableSnapshot) take the write lock. The load reads the
+ * primary, so links changed just before a rebuild starts are not lost to
+ * the replica lag.
+ */
+@Component
+public class CoauthorGraph extends RebuildableSnapshot<CoauthorGraph.Built> {
+
+    private static final int BUILD_PAGE_SIZE = 10_000;
+
+    // overrides allowed before a compaction, on top of one per 64 links
+    private static final int COMPACT_OVERRIDES = 4096;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    @Value("${graph.coauthors.enabled:true}")
+    private boolean enabled;
+
+    // researcher id -> article ids, and article id -> researcher ids
+    private Adjacency researchers = Adjacency.empty();
+    private Adjacency articles = Adjacency.empty();
+
+    // links added (+1) and removed (-1) while a rebuild runs, as {change, researcher, article}, replayed on the new graph
+    private final List<int[]> pending = new ArrayList<>();
+
+    public CoauthorGraph() {
+        super("Co-authorship graph", "coauthor-graph-builder");
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Scheduled(cron = "${graph.coauthors.rebuild.cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) rebuild();
+    }
+
+    @Override
+    protected void startBuild() {
+        pending.clear();
+    }
+
+    // the pages in the one transaction of the rebuild, so they come from one snapshot; the CSRs are built outside the lock
+    @Override
+    protected Built load() {
+        int[] researcherIds = new int[BUILD_PAGE_SIZE];
+        int[] articleIds = new int[BUILD_PAGE_SIZE];
+        int size = 0;
+        int after = Integer.MIN_VALUE;
+        List<AuthorLink> page;
+        do {
+            page = this.authorRepo.findLinksByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, BUILD_PAGE_SIZE));
+            if (size + page.size() > researcherIds.length) {
+                researcherIds = Arrays.copyOf(researcherIds, Math.max(researcherIds.length * 2, size + page.size()));
+                articleIds = Arrays.copyOf(articleIds, researcherIds.length);
+            }
+            for (AuthorLink link : page) {
+                researcherIds[size] = link.researcherId();
+                articleIds[size] = link.articleId();
+                size++;
+                after = link.id();
+            }
+        } while (page.size() == BUILD_PAGE_SIZE);
+        return new Built(Adjacency.of(researcherIds, articleIds, size), Adjacency.of(articleIds, researcherIds, size), size);
+    }
+
+    @Override
+    protected String install(Built built) {
+        for (int[] change : pending) {
+            if (change[0] > 0) link(built.researchers(), built.articles(), change[1], change[2]);
+            else unlink(built.researchers(), built.articles(), change[1], change[2]);
+        }
+        pending.clear();
+        researchers = built.researchers();
+        articles = built.articles();
+        return built.links() + " author links";
+    }
+
+    // both directions of the links loaded by a rebuild
+    record Built(Adjacency researchers, Adjacency articles, int links) {
+    }
+
+    /**
+     * Replaces the graph with the first size links of the arrays, the
+     * researcher and article of each author, without reading the database.
+     */
+    public void load(int[] researcherIds, int[] articleIds, int size) {
+        Adjacency loadedResearchers = Adjacency.of(researcherIds, articleIds, size);
+        Adjacency loadedArticles = Adjacency.of(articleIds, researcherIds, size);
+
+        lock.writeLock().lock();
+        try {
+            researchers = loadedResearchers;
+            articles = loadedArticles;
+            loaded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the link of an author saved for the researcher and the article.
+     */
+    public void add(int researcherId, int articleId) {
+        change(1, researcherId, articleId);
+    }
+
+    /**
+     * Removes the link of a deleted author, or of the previous researcher
+     * and article of an updated one.
+     */
+    public void remove(int researcherId, int articleId) {
+        change(-1, researcherId, articleId);
+    }
+
+    /**
+     * Adds the links of the authors of a committed import, the researcher
+     * and article ids at the same positions.
+     */
+    public void addAll(List<Integer> researcherIds, List<Integer> articleIds) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < researcherIds.size(); i++) {
+                link(researchers, articles, researcherIds.get(i), articleIds.get(i));
+                if (isBuilding()) pending.add(new int[] {1, researcherIds.get(i), articleIds.get(i)});
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void change(int change, int researcherId, int articleId) {
+        lock.writeLock().lock();
+        try {
+            if (change > 0) link(researchers, articles, researcherId, articleId);
+            else unlink(researchers, articles, researcherId, articleId);
+            if (isBuilding()) pending.add(new int[] {change, researcherId, articleId});
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void link(Adjacency researchers, Adjacency articles, int researcherId, int articleId) {
+        researchers.add(researcherId, articleId);
+        articles.add(articleId, researcherId);
+    }
+
+    private static void unlink(Adjacency researchers, Adjacency articles, int researcherId, int articleId) {
+        researchers.remove(researcherId, articleId);
+        articles.remove(articleId, researcherId);
+    }
+
+    private void compactIfNeeded() {
+        if (researchers.overrides() + articles.overrides() <= COMPACT_OVERRIDES + researchers.links() / 64) return;
+        researchers = researchers.compact();
+        articles = articles.compact();
+    }
+
+    /**
+     * The number of author links of a researcher; zero also for an id
+     * that is not a researcher.
+     */
+    public int papers(int researcherId) {
+        lock.readLock().lock();
+        try {
+            return researchers.degree(researcherId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A shortest chain of co-authors between two researchers, with a
+     * bidirectional breadth-first search that expands whichever side has
+     * the smaller frontier, level by level, until the two meet.
+     */
+    public CollaborationPath path(int from, int to) {
+        lock.readLock().lock();
+        try {
+            if (from == to) return new CollaborationPath(from, to, 0, List.of(from));
+
+            int nodes = researchers.nodeLimit();
+            if (from < 0 || to < 0 || from >= nodes || to >= nodes) return new CollaborationPath(from, to, null, List.of());
+
+            Search forward = new Search(from, nodes);
+            Search backward = new Search(to, nodes);
+            int meeting = -1;
+            while (meeting < 0 && forward.size > 0 && backward.size > 0) {
+                meeting = forward.size <= backward.size ? forward.expand(backward, Integer.MAX_VALUE) : backward.expand(forward, Integer.MAX_VALUE);
+            }
+            if (meeting < 0) return new CollaborationPath(from, to, null, List.of());
+
+            List<Integer> chain = forward.chain(meeting);
+            Collections.reverse(chain);
+            List<Integer> rest = backward.chain(meeting);
+            chain.addAll(rest.subList(1, rest.size()));
+            return new CollaborationPath(from, to, chain.size() - 1, chain);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The researchers at most hops co-authorships away, in order of
+     * distance, up to limit of them.
+     */
+    public List<ResearcherDistance> neighbourhood(int id, int hops, int limit) {
+        lock.readLock().lock();
+        try {
+            int nodes = researchers.nodeLimit();
+            if (id < 0 || id >= nodes) return List.of();
+
+            List<ResearcherDistance> found = new ArrayList<>();
+            Search search = new Search(id, nodes);
+            for (int distance = 1; distance <= hops && search.size > 0 && found.size() < limit; distance++) {
+                search.expand(null, limit - found.size());
+                for (int i = 0; i < search.size; i++) found.add(new ResearcherDistance(search.frontier[i], distance));
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The co-authors of a researcher with the number of articles they share,
+     * most shared first (then by id), up to limit of them.
+     */
+    public List<IdCount> topCoauthors(int id, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] range = new int[2];
+            int[] papers = researchers.neighbours(id, range);
+            int[] distinct = Arrays.copyOfRange(papers, range[0], range[1]);
+            Arrays.sort(distinct);
+
+            // co-author -> {shared articles, last article counted}, so a repeated link counts once
+            Map<Integer, int[]> shared = new HashMap<>();
+            for (int i = 0; i < distinct.length; i++) {
+                if (i > 0 && distinct[i] == distinct[i - 1]) continue;
+                int article = distinct[i];
+                int[] authors = articles.neighbours(article, range);
+                for (int a = range[0]; a < range[1]; a++) {
+                    if (authors[a] == id) continue;
+                    int[] count = shared.computeIfAbsent(authors[a], k -> new int[] {0, Integer.MIN_VALUE});
+                    if (count[1] == article) continue;
+                    count[0]++;
+                    count[1] = article;
+                }
+            }
+
+            return shared.entrySet().stream()
+                .map(e -> new IdCount(e.getKey(), e.getValue()[0]))
+                .sorted(Comparator.comparingLong(IdCount::count).reversed().thenComparingInt(IdCount::id))
+                .limit(limit)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * One side of a breadth-first search over researchers: the parent of
+     * every researcher reached (-1 when not reached, itself for the root),
+     * the articles already expanded and the current frontier. Each article
+     * is expanded once, so a search costs at most one pass over the links.
+     */
+    private final class Search {
+
+        private final int[] parents;
+        private final BitSet expandedArticles = new BitSet();
+        private int[] frontier;
+        private int size;
+
+        Search(int root, int nodes) {
+            this.parents = new int[nodes];
+            Arrays.fill(this.parents, -1);
+            this.parents[root] = root;
+            this.frontier = new int[] {root};
+            this.size = 1;
+        }
+
+        /**
+         * Replaces the frontier with the researchers one co-authorship
+         * further, at most max of them. Returns the first one the other
+         * search has reached too, or -1.
+         */
+        int expand(Search other, int max) {
+            int[] next = new int[Math.max(16, size)];
+            int nextSize = 0;
+            int[] articleRange = new int[2];
+            int[] authorRange = new int[2];
+
+            expansion:
+            for (int i = 0; i < size; i++) {
+                int researcher = frontier[i];
+                int[] papers = researchers.neighbours(researcher, articleRange);
+                for (int p = articleRange[0]; p < articleRange[1]; p++) {
+                    int article = papers[p];
+                    if (expandedArticles.get(article)) continue;
+                    expandedArticles.set(article);
+
+                    int[] authors = articles.neighbours(article, authorRange);
+                    for (int a = authorRange[0]; a < authorRange[1]; a++) {
+                        int coauthor = authors[a];
+                        if (parents[coauthor] >= 0) continue;
+                        parents[coauthor] = researcher;
+                        if (other != null && other.parents[coauthor] >= 0) return coauthor;
+
+                        if (nextSize == next.length) next = Arrays.copyOf(next, nextSize * 2);
+                        next[nextSize++] = coauthor;
+                        if (nextSize == max) break expansion;
+                    }
+                }
+            }
+
+            frontier = next;
+            size = nextSize;
+            return -1;
+        }
+
+        /**
+         * The researchers from one reached by this search back to its root.
+         */
+        List<Integer> chain(int researcher) {
+            List<Integer> chain = new ArrayList<>();
+            chain.add(researcher);
+            while (parents[researcher] != researcher) {
+                researcher = parents[researcher];
+                chain.add(researcher);
+            }
+            return chain;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.backend.backend.jwt;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,12 +27,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     protected void doFilterInternal(@SuppressWarnings("null") HttpServletRequest request, @SuppressWarnings("null") HttpServletResponse response, @SuppressWarnings("null") FilterChain filterChain)
             throws ServletException, IOException {
        
         final String token = getTokenFromRequest(request);
+        final Claims claims;
         final String username;
 
         if (token==null)
@@ -38,24 +43,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
             return;
         }
 
-        username=jwtService.getUsernameFromToken(token);
+        // one verification per request, the claims are reused for the validity check
+        claims=jwtService.verify(token);
+        username=claims.getSubject();
 
         if (username!=null && SecurityContextHolder.getContext().getAuthentication()==null)
         {
-            UserDetails userDetails=userDetailsService.loadUserByUsername(username);
+            final Collection<GrantedAuthority> authorities=jwtService.getAuthorities(claims);
+            final UsernamePasswordAuthenticationToken authToken;
 
-            if (jwtService.isTokenValid(token, userDetails))
+            if (authorities!=null && !userDetailsCache.isEnabled())
             {
-                UsernamePasswordAuthenticationToken authToken= new UsernamePasswordAuthenticationToken(
+                // stateless: verify() already checked signature and expiry, the claims carry the authorities
+                authToken=new UsernamePasswordAuthenticationToken(username, null, authorities);
+            }
+            else
+            {
+                // liveness check through the cache, or a token issued without authorities
+                UserDetails userDetails=userDetailsCache.isEnabled()
+                    ? userDetailsCache.get(username)
+                    : userDetailsService.loadUserByUsername(username);
+
+                if (!jwtService.isTokenValid(claims, userDetails) || !userDetails.isEnabled())
+                {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                authToken=new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
                     userDetails.getAuthorities());
-
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
         
         filterChain.doFilter(request, response);
@@ -1,27 +1,87 @@
 package com.backend.backend.jwt;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.backend.backend.entities.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+/*
+ * Issues and verifies the HS256 tokens of the API. The signing key and
+ * the parser are built once. verify() checks the signature and expiry of
+ * a token with a single parse and remembers the verified claims, keyed by
+ * the SHA-256 of the token, until the token expires: the filter sees the
+ * same token on every request of a session, so later requests cost one
+ * digest instead of a parse and an HMAC. Tokens that fail verification
+ * are never cached.
+ *
+ * Tokens carry the role and the authorities of the user, so the filter
+ * can authenticate a request from the claims without loading the user.
+ */
 @Service
 public class JwtService {
 
     private static final String SECRET_KEY = "THISISAVERYSECRETKEYANDSHOULDNOTBESHAREDWITHANYONEELSE";
 
+    private static final Key KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+
+    private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(KEY).build();
+
+    private static final int VERIFIED_TOKENS_MAX_SIZE = 10_000;
+
+    public static final String ROLE_CLAIM = "role";
+
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    // verified claims by token digest, each entry expires with its token
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(VERIFIED_TOKENS_MAX_SIZE)
+        .expireAfter(new Expiry<String, Claims>() {
+            @Override
+            public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        })
+        .build();
+
     public String getToken(UserDetails user) {
-        return getToken(new HashMap<>(), user);
+        Map<String,Object> claims = new HashMap<>();
+        if (user instanceof User u && u.getRole() != null) claims.put(ROLE_CLAIM, u.getRole().name());
+        claims.put(AUTHORITIES_CLAIM, user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        return getToken(claims, user);
     }
 
     private String getToken(Map<String,Object> extraClaims, UserDetails user) {
@@ -31,13 +91,42 @@ public class JwtService {
             .setSubject(user.getUsername())
             .setIssuedAt(new Date(System.currentTimeMillis()))
             .setExpiration(new Date(System.currentTimeMillis()+1000*60*24))
-            .signWith(getKey(), SignatureAlgorithm.HS256)
+            .signWith(KEY, SignatureAlgorithm.HS256)
             .compact();
     }
 
-    private Key getKey() {
-       byte[] keyBytes=Decoders.BASE64.decode(SECRET_KEY);
-       return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Verifies the signature and expiry of a token, parsing it at most once.
+     * The returned claims may be shared between requests and must not be modified.
+     *
+     * @param token the compact JWT
+     *
+     * @return the claims of the token
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims verify(String token) {
+        String digest = digest(token);
+
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims != null) return claims;
+
+        claims = PARSER.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
+    /**
+     * The authorities embedded in verified claims.
+     *
+     * @param claims the claims returned by verify
+     *
+     * @return the authorities, or null for tokens issued without them
+     */
+    public Collection<GrantedAuthority> getAuthorities(Claims claims) {
+        Object authorities = claims.get(AUTHORITIES_CLAIM);
+        if (!(authorities instanceof Collection<?> names)) return null;
+        return names.stream().map(name -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(name))).toList();
     }
 
     public String getUsernameFromToken(String token) {
@@ -45,33 +134,30 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username=getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername())&& !isTokenExpired(token));
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private Claims getAllClaims(String token)
-    {
-        return Jwts
-            .parserBuilder()
-            .setSigningKey(getKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
     public <T> T getClaim(String token, Function<Claims,T> claimsResolver)
     {
-        final Claims claims=getAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token));
     }
 
-    private Date getExpiration(String token)
+    private boolean isTokenExpired(Claims claims)
     {
-        return getClaim(token, Claims::getExpiration);
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
 
-    private boolean isTokenExpired(String token)
-    {
-        return getExpiration(token).before(new Date());
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM ships SHA-256
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.backend.backend.jwt;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/*
+ * Optional liveness check for token authentication. When enabled, the
+ * filter confirms that the user of a token still exists and is enabled,
+ * but the lookup goes through a bounded cache whose entries live for a
+ * short TTL, so a busy user costs one query per TTL instead of one per
+ * request. A deleted or disabled account stops authenticating within one
+ * TTL. Missing users are not cached.
+ */
+@Component
+public class UserDetailsCache {
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Value("${jwt.user-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jwt.user-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${jwt.user-cache.ttl:60s}")
+    private Duration ttl;
+
+    private Cache<String, UserDetails> users;
+
+    @PostConstruct
+    void init() {
+        this.users = Caffeine.newBuilder()
+            .maximumSize(this.maxSize)
+            .expireAfterWrite(this.ttl)
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Loads a user, from the cache when it was loaded less than one TTL ago.
+     *
+     * @param username the username of the token
+     *
+     * @return the user details
+     *
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if the user does not exist
+     */
+    public UserDetails get(String username) {
+        return this.users.get(username, this.userDetailsService::loadUserByUsername);
+    }
+}
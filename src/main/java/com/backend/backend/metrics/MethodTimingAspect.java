@@ -0,0 +1,136 @@
+package com.backend.backend.metrics;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.backend.backend.utils.ApiResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/*
+ * Times every public method of the services.impl classes and every call
+ * on a repository. Services are recorded under service.calls and tagged
+ * with the class, the method, the outcome (SUCCESS or FAILURE from
+ * ApiResponse.success, ERROR when it throws) and the HTTP status of the
+ * ApiResponse. Repositories are recorded under repository.calls with the
+ * repository interface, the method and SUCCESS or ERROR.
+ *
+ * Every timer publishes the percentiles of metrics.method-timing.percentiles
+ * (p50, p99 and p999 by default), computed in-process by Micrometer's
+ * HdrHistogram recorders over a sliding two minute window. They show up
+ * under /actuator/metrics as service.calls.percentile and
+ * repository.calls.percentile with a phi tag.
+ *
+ * Methods returning a CompletionStage (login, register) are timed until
+ * the stage completes. Repository methods returning a Stream are timed
+ * until the stream is returned, not until it is consumed.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "metrics.method-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingAspect {
+
+    static final String SERVICE_TIMER = "service.calls";
+    static final String REPOSITORY_TIMER = "repository.calls";
+
+    private static final String REPOSITORY_PACKAGE = "com.backend.backend.repositories";
+    private static final String NO_STATUS = "NONE";
+
+    private record Key(String name, String owner, String method, String outcome, String status) {
+    }
+
+    // looked up on first use: resolving the registry while the aspect is created pulls in beans the aspect advises
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${metrics.method-timing.percentiles:0.5,0.99,0.999}")
+    private double[] percentiles;
+
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    // repository proxy class -> name of the repository interface it implements
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.backend.backend.services.impl..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getTarget().getClass().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            record(new Key(SERVICE_TIMER, service, method, "ERROR", NO_STATUS), start);
+            throw t;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> record(serviceKey(service, method, value, error), start));
+        } else {
+            record(serviceKey(service, method, result, null), start);
+        }
+        return result;
+    }
+
+    @Around("bean(*Repo)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), MethodTimingAspect::repositoryName);
+        String method = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+
+        try {
+            Object result = joinPoint.proceed();
+            record(new Key(REPOSITORY_TIMER, repository, method, "SUCCESS", NO_STATUS), start);
+            return result;
+        } catch (Throwable t) {
+            record(new Key(REPOSITORY_TIMER, repository, method, "ERROR", NO_STATUS), start);
+            throw t;
+        }
+    }
+
+    private static Key serviceKey(String service, String method, Object value, Throwable error) {
+        if (error != null) return new Key(SERVICE_TIMER, service, method, "ERROR", NO_STATUS);
+        if (value instanceof ApiResponse response) {
+            String outcome = Boolean.TRUE.equals(response.getSuccess()) ? "SUCCESS" : "FAILURE";
+            return new Key(SERVICE_TIMER, service, method, outcome, String.valueOf(response.getStatus().value()));
+        }
+        return new Key(SERVICE_TIMER, service, method, "SUCCESS", NO_STATUS);
+    }
+
+    private void record(Key key, long start) {
+        timers.computeIfAbsent(key, this::register).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(Key key) {
+        boolean service = SERVICE_TIMER.equals(key.name());
+        return Timer.builder(key.name())
+            .description(service ? "Time spent in service methods" : "Time spent in repository calls")
+            .tag(service ? "service" : "repository", key.owner())
+            .tag("method", key.method())
+            .tag("outcome", key.outcome())
+            .tag("status", key.status())
+            .publishPercentiles(percentiles)
+            .register(meterRegistry.getObject());
+    }
+
+    // the proxy implements the repository interface along with Spring Data's own ones
+    private static String repositoryName(Class<?> proxyClass) {
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (type.getPackageName().equals(REPOSITORY_PACKAGE)) return type.getSimpleName();
+        }
+        return proxyClass.getSimpleName();
+    }
+}
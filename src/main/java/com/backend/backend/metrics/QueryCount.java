@@ -0,0 +1,53 @@
+package com.backend.backend.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Statements prepared by Hibernate while a QueryCounter scope was open:
+ * the total and how many times each distinct SQL string ran. Hibernate
+ * renders the same select with the same '?' placeholders every time, so
+ * one select repeated once per parent row (the N+1 signature) shows up
+ * as one string with a high count.
+ */
+public class QueryCount {
+
+    private int total;
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+
+    void add(String sql) {
+        total++;
+        statements.merge(sql, 1, Integer::sum);
+    }
+
+    void addAll(QueryCount other) {
+        total += other.total;
+        other.statements.forEach((sql, count) -> statements.merge(sql, count, Integer::sum));
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map<String, Integer> getStatements() {
+        return statements;
+    }
+
+    /**
+     * Selects that ran at least threshold times, with their count.
+     */
+    public Map<String, Integer> getRepeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statements.forEach((sql, count) -> {
+            if (count >= threshold && sql.regionMatches(true, 0, "select", 0, 6)) repeated.put(sql, count);
+        });
+        return repeated;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(total + " statements");
+        statements.forEach((sql, count) -> sb.append("\n  ").append(count).append(" x ").append(sql));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.backend.backend.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+ * Counts the statements of every HTTP request with QueryCounter. It runs
+ * ahead of the security chain, so the authentication lookups are counted too.
+ *
+ * The count of each request goes to the http.server.requests.queries
+ * distribution (p50/p99/max per method and uri pattern). A request over
+ * metrics.queries.budget statements is logged with its statements and
+ * counted in http.server.requests.queries.over.budget. Any select that ran
+ * metrics.queries.repeat-threshold times or more in one request is logged
+ * as an N+1 suspect and counted in http.server.requests.queries.repeated.
+ *
+ * Async requests (exports, streams, login and register) are not recorded:
+ * the counter is bound to the request thread, and their statements run on
+ * other threads after this filter has returned, so the count of the first
+ * dispatch would understate exactly the heaviest endpoints. They are only
+ * counted in http.server.requests.queries.async, per method and uri.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "metrics.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.queries.budget:20}")
+    private int budget;
+
+    @Value("${metrics.queries.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        queryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCount count = queryCounter.stop();
+            if (request.isAsyncStarted()) skipAsync(request);
+            else report(request, count);
+        }
+    }
+
+    private void skipAsync(HttpServletRequest request) {
+        Counter.builder("http.server.requests.queries.async")
+            .description("Async HTTP requests whose SQL statements are not counted")
+            .tag("method", request.getMethod())
+            .tag("uri", uri(request))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private void report(HttpServletRequest request, QueryCount count) {
+        String uri = uri(request);
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.queries")
+            .description("SQL statements per HTTP request")
+            .tag("method", method)
+            .tag("uri", uri)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry)
+            .record(count.getTotal());
+
+        if (count.getTotal() > budget) {
+            Counter.builder("http.server.requests.queries.over.budget").tag("method", method).tag("uri", uri)
+                .register(meterRegistry).increment();
+            log.warn("{} {} ran {} statements, over the budget of {}: {}", method, request.getRequestURI(), count.getTotal(), budget, count);
+        }
+
+        Map<String, Integer> repeated = count.getRepeatedSelects(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("http.server.requests.queries.repeated").tag("method", method).tag("uri", uri)
+                .register(meterRegistry).increment();
+            repeated.forEach((sql, times) -> log.warn("{} {} ran the same select {} times, likely N+1: {}", method, request.getRequestURI(), times, sql));
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
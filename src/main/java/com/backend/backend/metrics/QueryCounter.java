@@ -0,0 +1,96 @@
+package com.backend.backend.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/*
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered as Hibernate's StatementInspector, so it sees every
+ * statement sent through JPA, including the lazy and eager association
+ * loads the services never call explicitly. Statements answered from the
+ * second-level cache never reach it, as they never reach the database.
+ *
+ * Counting only happens inside a scope, opened with start by the per
+ * request QueryCountFilter and by QueryCountExtension in tests, or with
+ * count and measure around a piece of code. Outside one, inspect is a
+ * ThreadLocal read. Work handed to another thread, like the streamed
+ * exports, is not counted in the caller's scope, which is why
+ * QueryCountFilter leaves async requests out.
+ */
+@Component
+public class QueryCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count != null) count.add(sql);
+        return sql;
+    }
+
+    /**
+     * Opens a counting scope on the current thread, replacing any open one.
+     */
+    public void start() {
+        CURRENT.set(new QueryCount());
+    }
+
+    /**
+     * Closes the scope of the current thread.
+     *
+     * @return the statements counted since start, or an empty count when no scope was open
+     */
+    public QueryCount stop() {
+        QueryCount count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? new QueryCount() : count;
+    }
+
+    /**
+     * Runs the action in its own scope. The statements are also added to
+     * the enclosing scope, if there is one.
+     *
+     * @return the statements the action ran
+     */
+    public QueryCount count(Runnable action) {
+        return measure(() -> {
+            action.run();
+            return null;
+        }).count();
+    }
+
+    /**
+     * Same as count, for an action with a result.
+     *
+     * @return the result of the action and the statements it ran
+     */
+    public <T> Measured<T> measure(Supplier<T> action) {
+        QueryCount outer = CURRENT.get();
+        QueryCount count = new QueryCount();
+        CURRENT.set(count);
+        try {
+            return new Measured<>(action.get(), count);
+        } finally {
+            if (outer != null) {
+                outer.addAll(count);
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public record Measured<T>(T result, QueryCount count) {
+    }
+}
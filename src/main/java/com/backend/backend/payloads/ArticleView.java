@@ -0,0 +1,15 @@
+package com.backend.backend.payloads;
+
+import java.util.Date;
+
+/*
+ * Read-only view of an article with its edition and conference, built
+ * from the flat row of a constructor expression. Serializes to the same
+ * JSON as the Article entity.
+ */
+public record ArticleView(int id, String title, EditionView edition) {
+
+    public ArticleView(int id, String title, int editionId, int conferenceId, String conferenceName, int year, Date date, String city) {
+        this(id, title, new EditionView(editionId, conferenceId, conferenceName, year, date, city));
+    }
+}
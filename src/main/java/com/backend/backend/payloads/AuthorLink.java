@@ -0,0 +1,8 @@
+package com.backend.backend.payloads;
+
+/*
+ * The researcher and article ids of an Author row, without loading the
+ * entity. Selected page by page to build the co-authorship graph.
+ */
+public record AuthorLink(int id, int researcherId, int articleId) {
+}
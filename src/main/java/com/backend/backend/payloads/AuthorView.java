@@ -0,0 +1,19 @@
+package com.backend.backend.payloads;
+
+import java.util.Date;
+
+/*
+ * Read-only view of an author link with its article and researcher, built
+ * from the flat row of a constructor expression. Serializes to the same
+ * JSON as the Author entity.
+ */
+public record AuthorView(int id, ArticleView article, ResearcherView researcher) {
+
+    public AuthorView(int id,
+            int articleId, String title, int editionId, int conferenceId, String conferenceName, int year, Date date, String city,
+            int researcherId, String name, String surname, String secSurname, String university) {
+        this(id,
+            new ArticleView(articleId, title, editionId, conferenceId, conferenceName, year, date, city),
+            new ResearcherView(researcherId, name, surname, secSurname, university));
+    }
+}
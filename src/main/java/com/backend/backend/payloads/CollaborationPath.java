@@ -0,0 +1,11 @@
+package com.backend.backend.payloads;
+
+import java.util.List;
+
+/*
+ * A shortest chain of co-authors between two researchers: the ids from
+ * one to the other, each one a co-author of the next. The distance is
+ * the number of links, null with an empty chain when they are not connected.
+ */
+public record CollaborationPath(int from, int to, Integer distance, List<Integer> researchers) {
+}
@@ -0,0 +1,9 @@
+package com.backend.backend.payloads;
+
+/*
+ * Read-only view of a conference, selected with a constructor expression
+ * so reads never hydrate or track the entity. Serializes to the same JSON
+ * as the Conference entity.
+ */
+public record ConferenceView(int id, String name) {
+}
@@ -0,0 +1,16 @@
+package com.backend.backend.payloads;
+
+import java.util.Date;
+
+/*
+ * Read-only view of an edition and its conference. JPQL constructor
+ * expressions cannot nest, so queries use the flat constructor and the
+ * conference view is built here. Serializes to the same JSON as the
+ * Edition entity.
+ */
+public record EditionView(int id, ConferenceView conference, int year, Date date, String city) {
+
+    public EditionView(int id, int conferenceId, String conferenceName, int year, Date date, String city) {
+        this(id, new ConferenceView(conferenceId, conferenceName), year, date, city);
+    }
+}
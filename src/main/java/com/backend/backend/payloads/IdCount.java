@@ -0,0 +1,9 @@
+package com.backend.backend.payloads;
+
+/*
+ * A count attached to the id of an entity, e.g. the papers of a
+ * researcher. Selected with a constructor expression by the grouped
+ * count queries that rebuild the statistics.
+ */
+public record IdCount(int id, long count) {
+}
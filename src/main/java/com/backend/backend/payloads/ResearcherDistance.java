@@ -0,0 +1,8 @@
+package com.backend.backend.payloads;
+
+/*
+ * A researcher and its collaboration distance from another one:
+ * 1 for a co-author, 2 for a co-author of a co-author, and so on.
+ */
+public record ResearcherDistance(int id, int distance) {
+}
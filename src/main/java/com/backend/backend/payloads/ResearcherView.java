@@ -0,0 +1,9 @@
+package com.backend.backend.payloads;
+
+/*
+ * Read-only view of a researcher, selected with a constructor expression
+ * so reads never hydrate or track the entity. Serializes to the same JSON
+ * as the Researcher entity.
+ */
+public record ResearcherView(int id, String name, String surname, String secSurname, String university) {
+}
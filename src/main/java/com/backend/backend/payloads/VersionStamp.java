@@ -0,0 +1,51 @@
+package com.backend.backend.payloads;
+
+import java.time.Instant;
+
+/*
+ * Version of one row of a read endpoint: its id, the @Version counters
+ * of every entity its view is built from, and the latest modification
+ * time among them. Selected with a constructor expression, so a
+ * conditional GET can be answered without loading or serializing the
+ * view itself.
+ *
+ * The flat constructors mirror the views: an edition depends on its
+ * conference, an article on its edition and conference, and an author on
+ * its article, edition, conference and researcher. The referenced ids
+ * are part of the version so moving a row to another parent changes it.
+ */
+public record VersionStamp(int id, String version, Instant lastModified) {
+
+    public VersionStamp(int id, long version, Instant lastModified) {
+        this(id, Long.toString(version), lastModified);
+    }
+
+    public VersionStamp(int id, long version, Instant lastModified,
+            int conferenceId, long conferenceVersion, Instant conferenceLastModified) {
+        this(id, version + "/" + conferenceId + "." + conferenceVersion,
+            latest(lastModified, conferenceLastModified));
+    }
+
+    public VersionStamp(int id, long version, Instant lastModified,
+            int editionId, long editionVersion, Instant editionLastModified,
+            int conferenceId, long conferenceVersion, Instant conferenceLastModified) {
+        this(id, version + "/" + editionId + "." + editionVersion + "/" + conferenceId + "." + conferenceVersion,
+            latest(lastModified, latest(editionLastModified, conferenceLastModified)));
+    }
+
+    public VersionStamp(int id, long version, Instant lastModified,
+            int articleId, long articleVersion, Instant articleLastModified,
+            int editionId, long editionVersion, Instant editionLastModified,
+            int conferenceId, long conferenceVersion, Instant conferenceLastModified,
+            int researcherId, long researcherVersion, Instant researcherLastModified) {
+        this(id, version + "/" + articleId + "." + articleVersion + "/" + editionId + "." + editionVersion
+                + "/" + conferenceId + "." + conferenceVersion + "/" + researcherId + "." + researcherVersion,
+            latest(latest(lastModified, articleLastModified), latest(latest(editionLastModified, conferenceLastModified), researcherLastModified)));
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
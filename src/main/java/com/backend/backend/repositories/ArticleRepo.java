@@ -1,11 +1,70 @@
 package com.backend.backend.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.backend.entities.Article;
+import com.backend.backend.payloads.ArticleView;
+import com.backend.backend.payloads.VersionStamp;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ArticleRepo extends JpaRepository<Article, Integer>{
-    
+
+    // READ VIEWS: rows are selected straight into ArticleView, no entity is loaded or tracked
+    String VIEW = "select new com.backend.backend.payloads.ArticleView(a.id, a.title, e.id, c.id, c.name, e.year, e.date, e.city) "
+        + "from Article a join a.edition e join e.conference c";
+
+    @Query(VIEW + " where a.id = :id")
+    Optional<ArticleView> findViewById(@Param("id") Integer id);
+
+    @Query(VIEW + " where a.id in :ids")
+    List<ArticleView> findViewsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(value = VIEW, countQuery = "select count(a) from Article a")
+    Page<ArticleView> findViewsBy(Pageable pageable);
+
+    // KEYSET (SEEK) FINDER: rows strictly after the given id, no OFFSET and no count query
+    @Query(VIEW + " where a.id > :id order by a.id")
+    List<ArticleView> findByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    // VERSIONS: the version stamps of the rows a read returns, selected instead of the rows to build its ETag
+    String VERSION = "select new com.backend.backend.payloads.VersionStamp(a.id, a.version, a.lastModified, e.id, e.version, e.lastModified, c.id, c.version, c.lastModified) "
+        + "from Article a join a.edition e join e.conference c";
+
+    @Query(VERSION + " where a.id = :id")
+    Optional<VersionStamp> findVersionById(@Param("id") Integer id);
+
+    @Query(VERSION)
+    List<VersionStamp> findVersionsBy(Pageable pageable);
+
+    @Query(VERSION + " where a.id > :id order by a.id")
+    List<VersionStamp> findVersionsByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    @Query("select a.id from Article a where a.id in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    // EXPORT: forward-only stream of the whole table, fetched 1000 rows at a time
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select a from Article a join fetch a.edition e join fetch e.conference order by a.id")
+    Stream<Article> streamAllOrderById();
+
+    // STATISTICS: the papers of one edition, while the in-memory counters are not built yet
+    long countByEditionId(Integer editionId);
 }
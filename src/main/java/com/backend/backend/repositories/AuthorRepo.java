@@ -1,15 +1,87 @@
 package com.backend.backend.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.backend.entities.Author;
 import com.backend.backend.entities.Researcher;
+import com.backend.backend.payloads.ArticleView;
+import com.backend.backend.payloads.AuthorLink;
+import com.backend.backend.payloads.AuthorView;
+import com.backend.backend.payloads.VersionStamp;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AuthorRepo extends JpaRepository<Author, Integer>{
     
     List<Author> findByResearcher(Researcher researcher);
+
+    // READ VIEWS: rows are selected straight into the view records, no entity is loaded or tracked
+    String VIEW = "select new com.backend.backend.payloads.AuthorView(au.id, "
+        + "a.id, a.title, e.id, c.id, c.name, e.year, e.date, e.city, "
+        + "r.id, r.name, r.surname, r.secSurname, r.university) "
+        + "from Author au join au.article a join a.edition e join e.conference c join au.researcher r";
+
+    @Query(VIEW + " where au.id = :id")
+    Optional<AuthorView> findViewById(@Param("id") Integer id);
+
+    @Query(VIEW + " where au.id in :ids")
+    List<AuthorView> findViewsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(value = VIEW, countQuery = "select count(au) from Author au")
+    Page<AuthorView> findViewsBy(Pageable pageable);
+
+    // KEYSET (SEEK) FINDER: rows strictly after the given id, no OFFSET and no count query
+    @Query(VIEW + " where au.id > :id order by au.id")
+    List<AuthorView> findByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    // VERSIONS: the version stamps of the rows a read returns, selected instead of the rows to build its ETag
+    String VERSION = "select new com.backend.backend.payloads.VersionStamp(au.id, au.version, au.lastModified, a.id, a.version, a.lastModified, e.id, e.version, e.lastModified, "
+        + "c.id, c.version, c.lastModified, r.id, r.version, r.lastModified) "
+        + "from Author au join au.article a join a.edition e join e.conference c join au.researcher r";
+
+    @Query(VERSION + " where au.id = :id")
+    Optional<VersionStamp> findVersionById(@Param("id") Integer id);
+
+    @Query(VERSION)
+    List<VersionStamp> findVersionsBy(Pageable pageable);
+
+    @Query(VERSION + " where au.id > :id order by au.id")
+    List<VersionStamp> findVersionsByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    /*
+     * The articles of a researcher with their edition and conference,
+     * in a single select.
+     */
+    @Query("select new com.backend.backend.payloads.ArticleView(a.id, a.title, e.id, c.id, c.name, e.year, e.date, e.city) "
+        + "from Author au join au.article a join a.edition e join e.conference c where au.researcher.id = :researcherId")
+    List<ArticleView> findArticleViewsByResearcherId(@Param("researcherId") Integer researcherId);
+
+    // EXPORT: forward-only stream of the whole table, fetched 1000 rows at a time
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select au from Author au join fetch au.researcher join fetch au.article a join fetch a.edition e join fetch e.conference order by au.id")
+    Stream<Author> streamAllOrderById();
+
+    // STATISTICS: the papers of one researcher, while the in-memory counters are not built yet
+    long countByResearcherId(Integer researcherId);
+
+    // GRAPH: the researcher and article ids of every row, in keyset pages, to build the co-authorship graph
+    @Query("select new com.backend.backend.payloads.AuthorLink(au.id, au.researcher.id, au.article.id) from Author au where au.id > :id order by au.id")
+    List<AuthorLink> findLinksByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
 }
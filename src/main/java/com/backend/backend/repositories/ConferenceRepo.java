@@ -1,17 +1,77 @@
 package com.backend.backend.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.backend.entities.Conference;
+import com.backend.backend.payloads.ConferenceView;
+import com.backend.backend.payloads.VersionStamp;
+import com.backend.backend.payloads.IdCount;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ConferenceRepo extends JpaRepository<Conference, Integer>{
 
-    Page<Conference> findByName(String name, Pageable pageable); 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Page<Conference> findByName(String name, Pageable pageable);
+
+    // READ VIEWS: derived queries returning a record select it with a constructor expression
+    Optional<ConferenceView> findViewById(Integer id);
+
+    List<ConferenceView> findViewsByIdIn(Collection<Integer> ids);
+
+    Page<ConferenceView> findViewsBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<ConferenceView> findByNameContaining(String name, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Slice<ConferenceView> findSliceByNameContaining(String name, Pageable pageable);
+
+    List<ConferenceView> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    // VERSIONS: the version stamps of the rows a read returns, selected instead of the rows to build its ETag
+    String VERSION = "select new com.backend.backend.payloads.VersionStamp(c.id, c.version, c.lastModified) "
+        + "from Conference c";
+
+    @Query(VERSION + " where c.id = :id")
+    Optional<VersionStamp> findVersionById(@Param("id") Integer id);
+
+    @Query(VERSION)
+    List<VersionStamp> findVersionsBy(Pageable pageable);
+
+    @Query(VERSION + " where c.id > :id order by c.id")
+    List<VersionStamp> findVersionsByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    // STREAMED READS: keyset pages of the NDJSON read endpoints
+    List<ConferenceView> findByNameContainingAndIdGreaterThanOrderByIdAsc(String name, Integer id, Pageable pageable);
 
-    Page<Conference> findByNameContaining(String name, Pageable pageable);
+    // EXPORT: forward-only stream of the whole table, fetched 1000 rows at a time
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select c from Conference c order by c.id")
+    Stream<Conference> streamAllOrderById();
 
+    // STATISTICS: editions per conference, conferences without editions included, to rebuild the counters
+    @Query("select new com.backend.backend.payloads.IdCount(c.id, count(e.id)) from Conference c left join Edition e on e.conference = c group by c.id")
+    List<IdCount> countEditionsPerConference();
 }
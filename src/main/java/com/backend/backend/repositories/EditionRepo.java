@@ -1,26 +1,129 @@
 package com.backend.backend.repositories;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.backend.entities.Conference;
 import com.backend.backend.entities.Edition;
+import com.backend.backend.payloads.EditionView;
+import com.backend.backend.payloads.VersionStamp;
+import com.backend.backend.payloads.IdCount;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface EditionRepo extends JpaRepository<Edition, Integer>{
 
-    Page<Edition> findByYear(Integer year, Pageable pageable);
+    // READ VIEWS: rows are selected straight into EditionView, no entity is loaded or tracked
+    String VIEW = "select new com.backend.backend.payloads.EditionView(e.id, c.id, c.name, e.year, e.date, e.city) "
+        + "from Edition e join e.conference c";
+
+    @Query(VIEW + " where e.id = :id")
+    Optional<EditionView> findViewById(@Param("id") Integer id);
+
+    @Query(VIEW + " where e.id in :ids")
+    List<EditionView> findViewsByIdIn(@Param("ids") Collection<Integer> ids);
 
-    Page<Edition> findByYearBetween(Integer startYear, Integer endYear, Pageable pageable);
+    @Query(value = VIEW, countQuery = "select count(e) from Edition e")
+    Page<EditionView> findViewsBy(Pageable pageable);
 
-    Page<Edition> findByCityContaining(String city, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = VIEW + " where e.year = :year", countQuery = "select count(e) from Edition e where e.year = :year")
+    Page<EditionView> findByYear(@Param("year") Integer year, Pageable pageable);
 
-    Page<Edition> findByDate(Date date, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = VIEW + " where e.year between :startYear and :endYear", countQuery = "select count(e) from Edition e where e.year between :startYear and :endYear")
+    Page<EditionView> findByYearBetween(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = VIEW + " where e.city like %:#{escape(#city)}% escape :#{escapeCharacter()}", countQuery = "select count(e) from Edition e where e.city like %:#{escape(#city)}% escape :#{escapeCharacter()}")
+    Page<EditionView> findByCityContaining(@Param("city") String city, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = VIEW + " where e.date = :date", countQuery = "select count(e) from Edition e where e.date = :date")
+    Page<EditionView> findByDate(@Param("date") Date date, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Edition> findByConference(Conference refConference, Pageable pageable);
 
+    // COUNT-FREE VARIANTS: same predicates, but no SELECT COUNT(*) is issued
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(VIEW + " where e.year = :year")
+    Slice<EditionView> findSliceByYear(@Param("year") Integer year, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(VIEW + " where e.year between :startYear and :endYear")
+    Slice<EditionView> findSliceByYearBetween(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(VIEW + " where e.city like %:#{escape(#city)}% escape :#{escapeCharacter()}")
+    Slice<EditionView> findSliceByCityContaining(@Param("city") String city, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(VIEW + " where e.date = :date")
+    Slice<EditionView> findSliceByDate(@Param("date") Date date, Pageable pageable);
+
+    @Query("select e.id from Edition e where e.id in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    // KEYSET (SEEK) FINDERS: rows strictly after the given sort key, no OFFSET and no count query
+    @Query(VIEW + " where e.id > :id order by e.id")
+    List<EditionView> findByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    // VERSIONS: the version stamps of the rows a read returns, selected instead of the rows to build its ETag
+    String VERSION = "select new com.backend.backend.payloads.VersionStamp(e.id, e.version, e.lastModified, c.id, c.version, c.lastModified) "
+        + "from Edition e join e.conference c";
+
+    @Query(VERSION + " where e.id = :id")
+    Optional<VersionStamp> findVersionById(@Param("id") Integer id);
+
+    @Query(VERSION)
+    List<VersionStamp> findVersionsBy(Pageable pageable);
+
+    @Query(VERSION + " where e.id > :id order by e.id")
+    List<VersionStamp> findVersionsByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    @Query(VIEW + " where e.year = :year and e.id > :id order by e.id")
+    List<EditionView> findByYearAndIdGreaterThanOrderByIdAsc(@Param("year") Integer year, @Param("id") Integer id, Pageable pageable);
+
+    @Query(VIEW + " where e.year between :startYear and :endYear "
+        + "and (e.year > :year or (e.year = :year and e.id > :id)) order by e.year, e.id")
+    List<EditionView> findByYearBetweenAfter(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear, @Param("year") Integer year, @Param("id") Integer id, Pageable pageable);
+
+    @Query(VIEW + " where e.city like %:#{escape(#city)}% escape :#{escapeCharacter()} "
+        + "and (e.city > :lastCity or (e.city = :lastCity and e.id > :id)) order by e.city, e.id")
+    List<EditionView> findByCityContainingAfter(@Param("city") String city, @Param("lastCity") String lastCity, @Param("id") Integer id, Pageable pageable);
+
+    // STREAMED READS: keyset pages of the NDJSON read endpoints, in id order like the year stream
+    @Query(VIEW + " where e.city like %:#{escape(#city)}% escape :#{escapeCharacter()} and e.id > :id order by e.id")
+    List<EditionView> findByCityContainingAndIdGreaterThanOrderByIdAsc(@Param("city") String city, @Param("id") Integer id, Pageable pageable);
+
+    // EXPORT: forward-only stream of the whole table, fetched 1000 rows at a time
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select e from Edition e join fetch e.conference order by e.id")
+    Stream<Edition> streamAllOrderById();
+
+    // STATISTICS: articles per edition, editions without articles included, to rebuild the counters
+    @Query("select new com.backend.backend.payloads.IdCount(e.id, count(a.id)) from Edition e left join Article a on a.edition = e group by e.id")
+    List<IdCount> countPapersPerEdition();
+
+    // STATISTICS: the editions of one conference, while the in-memory counters are not built yet
+    long countByConferenceId(Integer conferenceId);
 }
@@ -1,13 +1,26 @@
 package com.backend.backend.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.backend.entities.Researcher;
+import com.backend.backend.payloads.ResearcherView;
+import com.backend.backend.payloads.VersionStamp;
+import com.backend.backend.payloads.IdCount;
+
+import jakarta.persistence.QueryHint;
 
 /*
  * defines a repository for managing Researcher entities in the backend.
@@ -19,17 +32,69 @@ import com.backend.backend.entities.Researcher;
  * findByUniversityContaining methods respectively. These methods return
  * lists of researchers matching the provided keyword.
  */
-
 @Repository
 public interface ResearcherRepo extends JpaRepository<Researcher, Integer>{
 
-    Page<Researcher> findByNameContaining(String name, Pageable pageable);
+    // READ VIEWS: derived queries returning a record select it with a constructor expression
+    Optional<ResearcherView> findViewById(Integer id);
+
+    List<ResearcherView> findViewsByIdIn(Collection<Integer> ids);
+
+    Page<ResearcherView> findViewsBy(Pageable pageable);
+
+    Page<ResearcherView> findByNameContaining(String name, Pageable pageable);
 
-    Page<Researcher> findBySurnameContaining(String surname, Pageable pageable);
+    Page<ResearcherView> findBySurnameContaining(String surname, Pageable pageable);
 
-    Page<Researcher> findBySecSurnameContaining(String secSurname, Pageable pageable);
+    Page<ResearcherView> findBySecSurnameContaining(String secSurname, Pageable pageable);
 
-    Page<Researcher> findByUniversityContaining(String university, Pageable pageable);
+    Page<ResearcherView> findByUniversityContaining(String university, Pageable pageable);
 
+    // COUNT-FREE VARIANTS: same predicates, but no SELECT COUNT(*) is issued
+    Slice<ResearcherView> findSliceByNameContaining(String name, Pageable pageable);
+
+    Slice<ResearcherView> findSliceBySurnameContaining(String surname, Pageable pageable);
+
+    Slice<ResearcherView> findSliceBySecSurnameContaining(String secSurname, Pageable pageable);
+
+    Slice<ResearcherView> findSliceByUniversityContaining(String university, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Optional<Researcher> findByNameAndSurnameAndSecSurname(String name, String surname, String secSurname);
-}
\ No newline at end of file
+
+    List<ResearcherView> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    // VERSIONS: the version stamps of the rows a read returns, selected instead of the rows to build its ETag
+    String VERSION = "select new com.backend.backend.payloads.VersionStamp(r.id, r.version, r.lastModified) "
+        + "from Researcher r";
+
+    @Query(VERSION + " where r.id = :id")
+    Optional<VersionStamp> findVersionById(@Param("id") Integer id);
+
+    @Query(VERSION)
+    List<VersionStamp> findVersionsBy(Pageable pageable);
+
+    @Query(VERSION + " where r.id > :id order by r.id")
+    List<VersionStamp> findVersionsByIdGreaterThanOrderByIdAsc(@Param("id") Integer id, Pageable pageable);
+
+    @Query("select r.id from Researcher r where r.id in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    // STREAMED READS: keyset pages of the NDJSON read endpoints
+    List<ResearcherView> findByNameContainingAndIdGreaterThanOrderByIdAsc(String name, Integer id, Pageable pageable);
+
+    List<ResearcherView> findByUniversityContainingAndIdGreaterThanOrderByIdAsc(String university, Integer id, Pageable pageable);
+
+    // EXPORT: forward-only stream of the whole table, fetched 1000 rows at a time
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select r from Researcher r order by r.id")
+    Stream<Researcher> streamAllOrderById();
+
+    // STATISTICS: author links per researcher, researchers without papers included, to rebuild the counters
+    @Query("select new com.backend.backend.payloads.IdCount(r.id, count(au.id)) from Researcher r left join Author au on au.researcher = r group by r.id")
+    List<IdCount> countPapersPerResearcher();
+}
@@ -0,0 +1,326 @@
+package com.backend.backend.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.payloads.ResearcherView;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.utils.SliceResponse;
+
+/*
+ * In-memory trigram inverted index over the Researcher table. It answers
+ * the "containing" searches on name, surname, second surname and
+ * university without the full table scan a LIKE '%x%' costs in MySQL.
+ *
+ * Every field value is lower cased and split into trigrams; each trigram
+ * maps to a sorted posting list of researcher ids. A search intersects
+ * the posting lists of the keyword trigrams and then verifies the
+ * candidates with a plain contains, so results match the SQL finders
+ * (case-insensitive, ordered by id).
+ *
+ * The index is built in the background once the application is ready
+ * and kept current by ResearcherServiceImpl on create, update and delete.
+ * Until the build finishes isReady() is false and callers use the DB.
+ */
+@Component
+public class ResearcherSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ResearcherSearchIndex.class);
+
+    private static final int BUILD_PAGE_SIZE = 1000;
+
+    public enum Field {
+        NAME, SURNAME, SEC_SURNAME, UNIVERSITY
+    }
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Value("${search.researcher.index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // serializes rebuilds; a lock rather than synchronized, as the build queries the DB and would pin a virtual thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // one trigram -> posting list map per field
+    private final List<Map<Long, IntPostingList>> postings = new ArrayList<>();
+
+    // read views of the indexed researchers and their lower cased field values, by id
+    private final TreeMap<Integer, ResearcherView> researchers = new TreeMap<>();
+    private final Map<Integer, String[]> values = new HashMap<>();
+
+    // ids written through put/remove while a build is running; the build must not overwrite them
+    private final Set<Integer> touchedDuringBuild = new HashSet<>();
+
+    private volatile boolean ready = false;
+    private volatile boolean building = false;
+
+    public ResearcherSearchIndex() {
+        for (int i = 0; i < Field.values().length; i++) postings.add(new HashMap<>());
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) return;
+        Thread builder = new Thread(this::rebuild, "researcher-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Loads every researcher from the database into a fresh index.
+     * Searches fall back to the database while it runs.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                ready = false;
+                building = true;
+                touchedDuringBuild.clear();
+                researchers.clear();
+                values.clear();
+                postings.forEach(Map::clear);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                long start = System.currentTimeMillis();
+                int page = 0;
+                Page<Researcher> researcherPage;
+                do {
+                    researcherPage = this.researcherRepo.findAll(PageRequest.of(page++, BUILD_PAGE_SIZE, Sort.by("id")));
+                    lock.writeLock().lock();
+                    try {
+                        for (Researcher r : researcherPage.getContent()) {
+                            if (!touchedDuringBuild.contains(r.getId())) index(r);
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                } while (researcherPage.hasNext());
+
+                lock.writeLock().lock();
+                try {
+                    touchedDuringBuild.clear();
+                    building = false;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Researcher search index built with {} researchers in {} ms", researchers.size(), System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                building = false;
+                log.warn("Researcher search index build failed, searches will use the database", e);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a researcher in the index.
+     */
+    public void put(Researcher researcher) {
+        lock.writeLock().lock();
+        try {
+            if (building) touchedDuringBuild.add(researcher.getId());
+            unindex(researcher.getId());
+            index(researcher);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a researcher from the index.
+     */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            if (building) touchedDuringBuild.add(id);
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Researchers whose field contains the keyword (case-insensitive), ordered by id.
+     *
+     * @param field the field to search
+     * @param keyword the text to look for
+     * @param page zero based page number
+     * @param size the size of the page
+     *
+     * @return the researchers of the page and whether there is a next one
+     */
+    public SliceResponse<ResearcherView> search(Field field, String keyword, int page, int size) {
+        if (page < 0) throw new IllegalArgumentException("Page index must not be less than zero");
+        if (size < 1) throw new IllegalArgumentException("Page size must not be less than one");
+
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        long offset = (long) page * size;
+        List<ResearcherView> content = new ArrayList<>(size);
+        boolean hasNext = false;
+
+        lock.readLock().lock();
+        try {
+            int skipped = 0;
+            for (int id : new CandidateIterator(field, needle)) {
+                if (!values.get(id)[field.ordinal()].contains(needle)) continue;
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                if (content.size() == size) {
+                    hasNext = true;
+                    break;
+                }
+                content.add(researchers.get(id));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new SliceResponse<>(content, hasNext);
+    }
+
+    private void index(Researcher r) {
+        ResearcherView view = new ResearcherView(r.getId(), r.getName(), r.getSurname(), r.getSecSurname(), r.getUniversity());
+
+        String[] fieldValues = {
+            lower(r.getName()), lower(r.getSurname()), lower(r.getSecSurname()), lower(r.getUniversity())
+        };
+
+        researchers.put(r.getId(), view);
+        values.put(r.getId(), fieldValues);
+        for (Field f : Field.values()) {
+            Map<Long, IntPostingList> fieldPostings = postings.get(f.ordinal());
+            for (long trigram : trigrams(fieldValues[f.ordinal()])) {
+                fieldPostings.computeIfAbsent(trigram, t -> new IntPostingList()).add(r.getId());
+            }
+        }
+    }
+
+    private void unindex(int id) {
+        String[] fieldValues = values.remove(id);
+        researchers.remove(id);
+        if (fieldValues == null) return;
+        for (Field f : Field.values()) {
+            Map<Long, IntPostingList> fieldPostings = postings.get(f.ordinal());
+            for (long trigram : trigrams(fieldValues[f.ordinal()])) {
+                IntPostingList list = fieldPostings.get(trigram);
+                if (list == null) continue;
+                list.remove(id);
+                if (list.size() == 0) fieldPostings.remove(trigram);
+            }
+        }
+    }
+
+    private static String lower(String s) {
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    // three UTF-16 chars packed into one long
+    private static Set<Long> trigrams(String s) {
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            result.add(((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2));
+        }
+        return result;
+    }
+
+    /*
+     * Iterates, in id order, over the ids that contain every trigram of the
+     * keyword: the shortest posting list drives and the others are probed
+     * with binary search. Keywords shorter than a trigram visit every id.
+     */
+    private class CandidateIterator implements Iterable<Integer> {
+
+        private final List<IntPostingList> lists = new ArrayList<>();
+        private final boolean all;
+        private final boolean none;
+
+        CandidateIterator(Field field, String needle) {
+            Set<Long> keywordTrigrams = trigrams(needle);
+            all = keywordTrigrams.isEmpty();
+            boolean missing = false;
+            for (long trigram : keywordTrigrams) {
+                IntPostingList list = postings.get(field.ordinal()).get(trigram);
+                if (list == null) {
+                    missing = true;
+                    break;
+                }
+                lists.add(list);
+            }
+            none = missing;
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            if (none) return Collections.emptyIterator();
+            if (all) return researchers.keySet().iterator();
+
+            IntPostingList driver = lists.get(0);
+            return new Iterator<Integer>() {
+                private int pos = advance(0);
+
+                private int advance(int from) {
+                    outer:
+                    for (int i = from; i < driver.size(); i++) {
+                        int id = driver.get(i);
+                        for (int l = 1; l < lists.size(); l++) {
+                            if (!lists.get(l).contains(id)) continue outer;
+                        }
+                        return i;
+                    }
+                    return driver.size();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return pos < driver.size();
+                }
+
+                @Override
+                public Integer next() {
+                    int id = driver.get(pos);
+                    pos = advance(pos + 1);
+                    return id;
+                }
+            };
+        }
+    }
+}
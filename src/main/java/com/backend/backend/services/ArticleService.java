@@ -1,7 +1,10 @@
 package com.backend.backend.services;
 
+import java.util.List;
+
 import com.backend.backend.payloads.ArticleDTO;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 public interface ArticleService {
     
@@ -11,8 +14,18 @@ public interface ArticleService {
 
     ApiResponse getArticleByID (Integer id);
 
+    ApiResponse getArticlesByIDs (List<Integer> ids);
+
     ApiResponse getAllArticlesPaginated (Integer page, Integer size);
 
+    ApiResponse getAllArticlesByCursor (String after, Integer size);
+
+    ResourceVersion getArticleVersion (Integer id);
+
+    ResourceVersion getAllArticlesVersion (Integer page, Integer size);
+
+    ResourceVersion getAllArticlesVersionByCursor (String after, Integer size);
+
     ApiResponse deleteArticle (Integer id);
     
 }
@@ -1,12 +1,14 @@
 package com.backend.backend.services;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.backend.backend.payloads.UserDTO;
 import com.backend.backend.utils.ApiResponse;
 
 public interface AuthService {
     
-    ApiResponse login(UserDTO user);
-    ApiResponse register(UserDTO user);
+    CompletableFuture<ApiResponse> login(UserDTO user);
+    CompletableFuture<ApiResponse> register(UserDTO user);
     ApiResponse logout(String email);
 
 }
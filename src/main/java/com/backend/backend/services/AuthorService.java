@@ -1,7 +1,10 @@
 package com.backend.backend.services;
 
+import java.util.List;
+
 import com.backend.backend.payloads.AuthorDTO;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 public interface AuthorService {
 
@@ -9,7 +12,12 @@ public interface AuthorService {
         ApiResponse createAuthor (AuthorDTO author);
         ApiResponse updateAuthor (AuthorDTO author, Integer id);
         ApiResponse getAuthorByID (Integer id);
+        ApiResponse getAuthorsByIDs (List<Integer> ids);
         ApiResponse getAllAuthorsPaginated (Integer page, Integer size);
+        ApiResponse getAllAuthorsByCursor (String after, Integer size);
+        ResourceVersion getAuthorVersion (Integer id);
+        ResourceVersion getAllAuthorsVersion (Integer page, Integer size);
+        ResourceVersion getAllAuthorsVersionByCursor (String after, Integer size);
         ApiResponse deleteAuthor (Integer id);
 
 }
@@ -0,0 +1,15 @@
+package com.backend.backend.services;
+
+import com.backend.backend.utils.ApiResponse;
+
+public interface CoauthorService {
+
+    ApiResponse getCollaborationPath (Integer from, Integer to);
+
+    ApiResponse getNeighbourhood (Integer id, Integer hops, Integer limit);
+
+    ApiResponse getTopCoauthors (Integer id, Integer limit);
+
+    ApiResponse rebuildGraph ();
+
+}
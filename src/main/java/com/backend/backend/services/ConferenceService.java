@@ -1,7 +1,10 @@
 package com.backend.backend.services;
 
+import java.util.List;
+
 import com.backend.backend.payloads.ConferenceDTO;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 public interface ConferenceService {
 
@@ -11,10 +14,20 @@ public interface ConferenceService {
 
     ApiResponse getConferenceByID (Integer id);
 
+    ApiResponse getConferencesByIDs (List<Integer> ids);
+
     ApiResponse getAllConferencesPaginated (Integer page, Integer size);
 
+    ApiResponse getAllConferencesByCursor (String after, Integer size);
+
+    ResourceVersion getConferenceVersion (Integer id);
+
+    ResourceVersion getAllConferencesVersion (Integer page, Integer size);
+
+    ResourceVersion getAllConferencesVersionByCursor (String after, Integer size);
+
     ApiResponse deleteConference (Integer id);
     
-    ApiResponse getConferencesByNamePaginated (String name, Integer page, Integer size);
+    ApiResponse getConferencesByNamePaginated (String name, Integer page, Integer size, Boolean withTotal);
 
 }
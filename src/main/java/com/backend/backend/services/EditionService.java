@@ -1,7 +1,10 @@
 package com.backend.backend.services;
 
+import java.util.List;
+
 import com.backend.backend.payloads.EditionDTO;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 public interface EditionService {
     
@@ -9,11 +12,21 @@ public interface EditionService {
     ApiResponse createEdition (EditionDTO edition);
     ApiResponse updateEdition (Integer id, EditionDTO edition);
     ApiResponse getEditionByID (Integer id);
-    ApiResponse getEditionsByYearPaginated (Integer year, Integer page, Integer size);
-    ApiResponse getEditionsBetweenYearsPaginated (Integer startYear, Integer endYear, Integer page, Integer size);
-    ApiResponse getEditionsByCityPaginated (String city, Integer page, Integer size);
-    ApiResponse getEditionsByDatePaginated (String date, Integer page, Integer size);
+    ApiResponse getEditionsByIDs (List<Integer> ids);
+    ApiResponse getEditionsByYearPaginated (Integer year, Integer page, Integer size, Boolean withTotal);
+    ApiResponse getEditionsBetweenYearsPaginated (Integer startYear, Integer endYear, Integer page, Integer size, Boolean withTotal);
+    ApiResponse getEditionsByCityPaginated (String city, Integer page, Integer size, Boolean withTotal);
+    ApiResponse getEditionsByDatePaginated (String date, Integer page, Integer size, Boolean withTotal);
     ApiResponse getAllEditionsPaginated(Integer page, Integer size);
     ApiResponse deleteEdition (Integer id);
 
+    // KEYSET PAGINATED OPERATIONS
+    ApiResponse getAllEditionsByCursor (String after, Integer size);
+    ResourceVersion getEditionVersion (Integer id);
+    ResourceVersion getAllEditionsVersion (Integer page, Integer size);
+    ResourceVersion getAllEditionsVersionByCursor (String after, Integer size);
+    ApiResponse getEditionsByYearByCursor (Integer year, String after, Integer size);
+    ApiResponse getEditionsBetweenYearsByCursor (Integer startYear, Integer endYear, String after, Integer size);
+    ApiResponse getEditionsByCityByCursor (String city, String after, Integer size);
+
 }
@@ -0,0 +1,15 @@
+package com.backend.backend.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+        // Export Methods
+        long exportResearchers (OutputStream out) throws IOException;
+        long exportConferences (OutputStream out) throws IOException;
+        long exportEditions (OutputStream out) throws IOException;
+        long exportArticles (OutputStream out) throws IOException;
+        long exportAuthors (OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,12 @@
+package com.backend.backend.services;
+
+import java.io.InputStream;
+
+import com.backend.backend.utils.ApiResponse;
+
+public interface ImportService {
+
+        // Bulk Methods
+        ApiResponse importRows (InputStream body, String contentType);
+
+}
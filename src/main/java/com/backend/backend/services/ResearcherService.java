@@ -1,7 +1,10 @@
 package com.backend.backend.services;
 
+import java.util.List;
+
 import com.backend.backend.payloads.ResearcherDTO;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ResourceVersion;
 
 public interface ResearcherService {
 
@@ -9,12 +12,17 @@ public interface ResearcherService {
     ApiResponse createResearcher(ResearcherDTO researcher);
     ApiResponse updateResearcher(Integer id, ResearcherDTO researcher);
     ApiResponse getResearcherByID(Integer id);
+    ApiResponse getResearchersByIDs(List<Integer> ids);
     ApiResponse deleteResearcher(Integer id);
     ApiResponse getAllResearchersPaginated(Integer page, Integer size);
-    ApiResponse getResearchersByNamePaginated(String name, Integer page, Integer size);
-    ApiResponse getResearchersBySurnamePaginated(String surname, Integer page, Integer size);
-    ApiResponse getResearchersBySecSurnamePaginated(String secSurname, Integer page, Integer size);
-    ApiResponse getResearchersByUniversityPaginated(String university, Integer page, Integer size);
+    ApiResponse getAllResearchersByCursor(String after, Integer size);
+    ResourceVersion getResearcherVersion(Integer id);
+    ResourceVersion getAllResearchersVersion(Integer page, Integer size);
+    ResourceVersion getAllResearchersVersionByCursor(String after, Integer size);
+    ApiResponse getResearchersByNamePaginated(String name, Integer page, Integer size, Boolean withTotal);
+    ApiResponse getResearchersBySurnamePaginated(String surname, Integer page, Integer size, Boolean withTotal);
+    ApiResponse getResearchersBySecSurnamePaginated(String secSurname, Integer page, Integer size, Boolean withTotal);
+    ApiResponse getResearchersByUniversityPaginated(String university, Integer page, Integer size, Boolean withTotal);
 
 
     // CUSTOM OPERATIONS
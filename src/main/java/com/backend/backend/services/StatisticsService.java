@@ -0,0 +1,21 @@
+package com.backend.backend.services;
+
+import com.backend.backend.utils.ApiResponse;
+
+public interface StatisticsService {
+
+    ApiResponse getPapersByResearcher (Integer id);
+
+    ApiResponse getPapersByEdition (Integer id);
+
+    ApiResponse getEditionsByConference (Integer id);
+
+    ApiResponse getAllPapersByResearcher ();
+
+    ApiResponse getAllPapersByEdition ();
+
+    ApiResponse getAllEditionsByConference ();
+
+    ApiResponse rebuildStatistics ();
+
+}
@@ -0,0 +1,17 @@
+package com.backend.backend.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface StreamService {
+
+        // Streamed Read Methods
+        long streamEditionsByYear (Integer year, OutputStream out) throws IOException;
+        long streamEditionsBetweenYears (Integer startYear, Integer endYear, OutputStream out) throws IOException;
+        long streamEditionsByCity (String city, OutputStream out) throws IOException;
+        long streamConferences (OutputStream out) throws IOException;
+        long streamConferencesByName (String name, OutputStream out) throws IOException;
+        long streamResearchersByName (String name, OutputStream out) throws IOException;
+        long streamResearchersByUniversity (String university, OutputStream out) throws IOException;
+
+}
@@ -1,23 +1,34 @@
 package com.backend.backend.services.impl;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.backend.entities.Article;
 import com.backend.backend.entities.Edition;
 import com.backend.backend.payloads.ArticleDTO;
+import com.backend.backend.payloads.ArticleView;
+import com.backend.backend.payloads.VersionStamp;
 import com.backend.backend.repositories.ArticleRepo;
 import com.backend.backend.repositories.EditionRepo;
 import com.backend.backend.services.ArticleService;
+import com.backend.backend.statistics.PublicationStatistics;
+import com.backend.backend.statistics.PublicationStatistics.Counter;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.BatchResponse;
+import com.backend.backend.utils.Cursor;
+import com.backend.backend.utils.CursorPage;
+import com.backend.backend.utils.ResourceVersion;
 import com.backend.backend.utils.Transformations;
 
 import jakarta.persistence.PersistenceException;
@@ -31,6 +42,9 @@ public class ArticleServiceImpl implements ArticleService{
     @Autowired
     private ArticleRepo articleRepo;
 
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
     /**
      * This method creates an article
      * 
@@ -53,6 +67,7 @@ public class ArticleServiceImpl implements ArticleService{
             articleEntity.setEdition(editionEntity);
 
             this.articleRepo.save(articleEntity);
+            this.publicationStatistics.add(Counter.PAPERS_PER_EDITION, editionEntity.getId(), 1);
 
             return new ApiResponse("Article created successfully", true, articleEntity, HttpStatus.CREATED);
 
@@ -83,16 +98,18 @@ public class ArticleServiceImpl implements ArticleService{
             
             Optional<Article> optionalArticle = this.articleRepo.findById(id);
             if (!optionalArticle.isPresent()) return new ApiResponse("Article not found", false, null, HttpStatus.NOT_FOUND);
-            Article articleEntity = Transformations.dtoToArticle(article);
+            Article articleEntity = optionalArticle.get();
 
             Optional<Edition> optionalEdition = this.editionRepo.findById(article.getRef_edition());
             if (!optionalEdition.isPresent()) return new ApiResponse("Edition not found", false, null, HttpStatus.NOT_FOUND);
             Edition editionEntity = optionalEdition.get();
 
+            int previousEditionId = articleEntity.getEdition().getId();
             articleEntity.setTitle(article.getTitle());
             articleEntity.setEdition(editionEntity);
 
             this.articleRepo.save(articleEntity);
+            this.publicationStatistics.move(Counter.PAPERS_PER_EDITION, previousEditionId, editionEntity.getId());
 
             return new ApiResponse("Article updated successfully", true, articleEntity, HttpStatus.OK);
 
@@ -115,18 +132,19 @@ public class ArticleServiceImpl implements ArticleService{
      * 
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getArticleByID(Integer id) {
         if (id == null) return new ApiResponse("Article ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
             
-            Optional<Article> optionalArticle = this.articleRepo.findById(id);
+            Optional<ArticleView> optionalArticle = this.articleRepo.findViewById(id);
 
             if (!optionalArticle.isPresent()) return new ApiResponse("Article not found", false, null, HttpStatus.NOT_FOUND);
 
-            Article articleEntity = optionalArticle.get();
+            ArticleView article = optionalArticle.get();
 
-            return new ApiResponse("Article retrieved successfully", true, articleEntity, HttpStatus.OK);
+            return new ApiResponse("Article retrieved successfully", true, article, HttpStatus.OK);
 
         } catch (DataIntegrityViolationException e) {
             return new ApiResponse("Error getting article: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
@@ -138,6 +156,35 @@ public class ArticleServiceImpl implements ArticleService{
 
     }
 
+    /**
+     * Method to get several articles by their ids with one query per chunk of ids
+     *
+     * @param ids List of Integer with the ids of the articles
+     *
+     * @return ApiResponse object with the articles found, in the order of the ids, and the ids not found
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getArticlesByIDs(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) return new ApiResponse("Article ids cannot be empty", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.size() > BatchResponse.MAX_IDS) return new ApiResponse("Cannot get more than " + BatchResponse.MAX_IDS + " articles at once", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.stream().anyMatch(Objects::isNull)) return new ApiResponse("Article ids cannot contain null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            BatchResponse<ArticleView> articles = BatchResponse.of(ids, this.articleRepo::findViewsByIdIn, ArticleView::id);
+
+            return new ApiResponse("Articles retrieved successfully", true, articles, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving articles: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving articles: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving articles: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Service to delete an article
      * 
@@ -160,6 +207,7 @@ public class ArticleServiceImpl implements ArticleService{
             Article articleEntity = optionalArticle.get();
 
             this.articleRepo.delete(articleEntity);
+            this.publicationStatistics.add(Counter.PAPERS_PER_EDITION, articleEntity.getEdition().getId(), -1);
 
             return new ApiResponse("Article deleted successfully", true, null, HttpStatus.OK);
             
@@ -183,18 +231,19 @@ public class ArticleServiceImpl implements ArticleService{
      * 
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getAllArticlesPaginated(Integer page, Integer size) {
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
             
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Article> articlePage = this.articleRepo.findAll(pageable);
+            Pageable pageable = allArticlesPage(page, size);
+            Page<ArticleView> articlePage = this.articleRepo.findViewsBy(pageable);
 
             if (articlePage.isEmpty()) return new ApiResponse("No articles found", false, null, HttpStatus.NOT_FOUND);
             
-            List<Article> articles = articlePage.getContent();
+            List<ArticleView> articles = articlePage.getContent();
 
             return new ApiResponse("Articles retrieved successfully", true, articles , HttpStatus.OK);
 
@@ -207,4 +256,113 @@ public class ArticleServiceImpl implements ArticleService{
         }
     }
 
+    /**
+     * Service to get all articles using keyset pagination
+     * 
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     * 
+     * @return ApiResponse object with the result of the operation
+     * 
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getAllArticlesByCursor(String after, Integer size) {
+        if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            int afterId = Cursor.decodeId(after);
+            List<ArticleView> articles = this.articleRepo.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size + 1));
+
+            if (articles.isEmpty()) return new ApiResponse("No articles found", false, null, HttpStatus.NOT_FOUND);
+
+            CursorPage<ArticleView> articlePage = CursorPage.of(articles, size, a -> Cursor.encode(a.id()));
+
+            return new ApiResponse("Articles retrieved successfully", true, articlePage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error getting articles: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error getting articles: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error getting articles: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the version of a article, read before getByID to answer conditional requests
+     *
+     * @param id Integer with the ID of the article
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the article, null when it does not exist or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getArticleVersion(Integer id) {
+        if (id == null) return null;
+
+        try {
+            return this.articleRepo.findVersionById(id).map(v -> ResourceVersion.of("article", v)).orElse(null);
+        } catch (Exception e) {
+            // no validators, the request takes the normal path and reports the error
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a page of articles, read before getAll to answer conditional requests
+     *
+     * @param page Integer with the page number
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllArticlesVersion(Integer page, Integer size) {
+        if (page == null || size == null) return null;
+
+        try {
+            List<VersionStamp> versions = this.articleRepo.findVersionsBy(allArticlesPage(page, size));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("articles", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a keyset page of articles, read before getAll to answer conditional requests
+     *
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllArticlesVersionByCursor(String after, Integer size) {
+        if (size == null || size < 1) return null;
+
+        try {
+            // size + 1 rows, as the extra row decides the next cursor of the page
+            List<VersionStamp> versions = this.articleRepo.findVersionsByIdGreaterThanOrderByIdAsc(Cursor.decodeId(after), PageRequest.of(0, size + 1));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("articles:cursor", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // the 0-based page of getAll in id order, shared with its version so the ETag covers the rows returned
+    private static Pageable allArticlesPage(Integer page, Integer size) {
+        return PageRequest.of(page, size, Sort.by("id"));
+    }
+
 }
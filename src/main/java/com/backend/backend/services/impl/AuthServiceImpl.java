@@ -1,12 +1,17 @@
 package com.backend.backend.services.impl;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -19,7 +24,19 @@ import com.backend.backend.utils.ApiResponse;
 import com.backend.backend.utils.AuthResponse;
 import com.backend.backend.utils.Role;
 
-
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/*
+ * Login and register run their BCrypt work on the bounded password
+ * hashing executor and complete asynchronously, so the request thread is
+ * released while the hash is computed. Register saves the user on the
+ * application task executor once the hash is done, so hashing threads
+ * never wait on the database. When the executor is saturated
+ * the call is answered with 503 right away. Hash times are recorded in
+ * the auth.password.hash timer, tagged with the operation.
+ */
 @Service
 public class AuthServiceImpl implements AuthService{
 
@@ -33,10 +50,33 @@ public class AuthServiceImpl implements AuthService{
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    @Qualifier("passwordHashingExecutor")
+    private ExecutorService passwordHashingExecutor;
+
+    // runs what follows a hash, so database work does not hold a hashing thread
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+
+    // compared against when the user does not exist, so unknown and known users take the same time
+    private String unknownUserPassword;
+
+    @PostConstruct
+    void init() {
+        this.encodeTimer = hashTimer("encode");
+        this.matchesTimer = hashTimer("matches");
+        this.unknownUserPassword = this.passwordEncoder.encode("unknown-user-password");
+    }
 
     /**
-     * This method logs in a user
+     * This method logs in a user. The user is looked up once and the password
+     * is checked on the password hashing executor.
      * 
      * @param email email of the user
      * @param password password of the user
@@ -45,29 +85,38 @@ public class AuthServiceImpl implements AuthService{
      * 
      */
     @Override
-    public ApiResponse login(UserDTO userDTO) {
-        if (userDTO == null) return new ApiResponse("User cannot be null", false, null, HttpStatus.BAD_REQUEST);
+    public CompletableFuture<ApiResponse> login(UserDTO userDTO) {
+        if (userDTO == null) return CompletableFuture.completedFuture(new ApiResponse("User cannot be null", false, null, HttpStatus.BAD_REQUEST));
 
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(userDTO.getEmail(), userDTO.getPassword()));
         Optional<UserDetails> optionalUser = userRepo.findByUsername(userDTO.getEmail());
+        String storedPassword = optionalUser.map(UserDetails::getPassword).orElse(this.unknownUserPassword);
 
-        if (!optionalUser.isPresent()) {
-            return new ApiResponse("User doesn't exist", false, null, HttpStatus.NOT_FOUND);
+        try {
+            return hash(this.matchesTimer, () -> passwordEncoder.matches(userDTO.getPassword(), storedPassword))
+                .thenApply(matches -> {
+                    if (!matches || !optionalUser.isPresent() || !optionalUser.get().isEnabled()) {
+                        return new ApiResponse("Invalid login credentials", false, null, HttpStatus.UNAUTHORIZED);
+                    }
+
+                    AuthResponse authResponse = AuthResponse.builder()
+                            .token(jwtService.getToken(optionalUser.get()))
+                            .build();
+
+                    return new ApiResponse("User logged in successfully", true, authResponse, HttpStatus.OK);
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    return new ApiResponse("Error logging in user: " + cause.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+                });
+
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
         }
-
-        UserDetails user = optionalUser.get();
-
-        String token = jwtService.getToken(user);
-
-        AuthResponse authResponse = AuthResponse.builder()
-                .token(token)
-                .build();
-
-        return new ApiResponse("User logged in successfully", true, authResponse, HttpStatus.OK);
     }
 
     /**
-     * This method registers a new user
+     * This method registers a new user. The password is hashed on the
+     * password hashing executor.
      * 
      * @param email email of the user
      * @param password password of the user
@@ -77,26 +126,33 @@ public class AuthServiceImpl implements AuthService{
      */
     @SuppressWarnings("null")
     @Override
-    public ApiResponse register(UserDTO userDTO) {
-        if (userDTO == null) return new ApiResponse("User cannot be null", false, null, HttpStatus.BAD_REQUEST);
+    public CompletableFuture<ApiResponse> register(UserDTO userDTO) {
+        if (userDTO == null) return CompletableFuture.completedFuture(new ApiResponse("User cannot be null", false, null, HttpStatus.BAD_REQUEST));
 
         try {
-            User user = User.builder()
-                    .username(userDTO.getEmail())
-                    .password(passwordEncoder.encode(userDTO.getPassword()))
-                    .role(Role.USER)
-                    .build();
-            
-            this.userRepo.save(user);
-
-            AuthResponse authResponse = AuthResponse.builder()
-                    .token(jwtService.getToken(user))
-                    .build();
-
-            return new ApiResponse("User registered successfully", true, authResponse, HttpStatus.CREATED);
-
-        } catch (Exception e) {
-            return new ApiResponse("Error registering user: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);            
+            return hash(this.encodeTimer, () -> passwordEncoder.encode(userDTO.getPassword()))
+                .thenApplyAsync(password -> {
+                    User user = User.builder()
+                            .username(userDTO.getEmail())
+                            .password(password)
+                            .role(Role.USER)
+                            .build();
+
+                    this.userRepo.save(user);
+
+                    AuthResponse authResponse = AuthResponse.builder()
+                            .token(jwtService.getToken(user))
+                            .build();
+
+                    return new ApiResponse("User registered successfully", true, authResponse, HttpStatus.CREATED);
+                }, this.applicationTaskExecutor)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    return new ApiResponse("Error registering user: " + cause.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+                });
+
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
         }
     }
 
@@ -104,5 +160,21 @@ public class AuthServiceImpl implements AuthService{
     public ApiResponse logout(String email) {
         return null;
     }
+
+    private <T> CompletableFuture<T> hash(Timer timer, Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> timer.record(work), this.passwordHashingExecutor);
+    }
+
+    private Timer hashTimer(String operation) {
+        return Timer.builder("auth.password.hash")
+            .description("Time spent hashing or verifying a password")
+            .tag("operation", operation)
+            .publishPercentileHistogram()
+            .register(this.meterRegistry);
+    }
+
+    private static ApiResponse busy() {
+        return new ApiResponse("Too many authentication requests, try again later", false, null, HttpStatus.SERVICE_UNAVAILABLE);
+    }
     
-}
\ No newline at end of file
+}
@@ -1,25 +1,37 @@
 package com.backend.backend.services.impl;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.backend.entities.Article;
 import com.backend.backend.entities.Author;
 import com.backend.backend.entities.Researcher;
+import com.backend.backend.graph.CoauthorGraph;
 import com.backend.backend.payloads.AuthorDTO;
+import com.backend.backend.payloads.AuthorView;
+import com.backend.backend.payloads.VersionStamp;
 import com.backend.backend.repositories.ArticleRepo;
 import com.backend.backend.repositories.AuthorRepo;
 import com.backend.backend.repositories.ResearcherRepo;
 import com.backend.backend.services.AuthorService;
+import com.backend.backend.statistics.PublicationStatistics;
+import com.backend.backend.statistics.PublicationStatistics.Counter;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.BatchResponse;
+import com.backend.backend.utils.Cursor;
+import com.backend.backend.utils.CursorPage;
+import com.backend.backend.utils.ResourceVersion;
 import com.backend.backend.utils.Transformations;
 
 import jakarta.persistence.PersistenceException;
@@ -36,6 +48,12 @@ public class AuthorServiceImpl implements AuthorService{
     @Autowired
     private AuthorRepo authorRepo;
 
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
+    @Autowired
+    private CoauthorGraph coauthorGraph;
+
     /**
      * Service to create an author
      * 
@@ -63,6 +81,8 @@ public class AuthorServiceImpl implements AuthorService{
             authorEntity.setResearcher(researcherEntity);
 
             this.authorRepo.save(authorEntity);
+            this.publicationStatistics.add(Counter.PAPERS_PER_RESEARCHER, researcherEntity.getId(), 1);
+            this.coauthorGraph.add(researcherEntity.getId(), articleEntity.getId());
 
             return new ApiResponse("Author created successfully", true, authorEntity, HttpStatus.CREATED);
 
@@ -104,10 +124,17 @@ public class AuthorServiceImpl implements AuthorService{
             if (!optionalResearcher.isPresent()) return new ApiResponse("Researcher not found", false, null, HttpStatus.NOT_FOUND);
             Researcher researcherEntity = optionalResearcher.get();
 
+            int previousResearcherId = authorEntity.getResearcher().getId();
+            int previousArticleId = authorEntity.getArticle().getId();
             authorEntity.setArticle(articleEntity);
             authorEntity.setResearcher(researcherEntity);
 
             this.authorRepo.save(authorEntity);
+            this.publicationStatistics.move(Counter.PAPERS_PER_RESEARCHER, previousResearcherId, researcherEntity.getId());
+            if (previousResearcherId != researcherEntity.getId() || previousArticleId != articleEntity.getId()) {
+                this.coauthorGraph.remove(previousResearcherId, previousArticleId);
+                this.coauthorGraph.add(researcherEntity.getId(), articleEntity.getId());
+            }
 
             return new ApiResponse("Author updated successfully", true, authorEntity, HttpStatus.OK);
 
@@ -130,15 +157,16 @@ public class AuthorServiceImpl implements AuthorService{
      * 
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getAuthorByID(Integer id) {
         if (id == null) return new ApiResponse("Author ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
-            Optional<Author> optionalAuthor = this.authorRepo.findById(id);
+            Optional<AuthorView> optionalAuthor = this.authorRepo.findViewById(id);
             if (!optionalAuthor.isPresent()) return new ApiResponse("Author not found", false, null, HttpStatus.NOT_FOUND);
-            Author authorEntity = optionalAuthor.get();
+            AuthorView author = optionalAuthor.get();
 
-            return new ApiResponse("Author retrieved successfully", true, authorEntity, HttpStatus.OK);
+            return new ApiResponse("Author retrieved successfully", true, author, HttpStatus.OK);
 
         } catch (DataIntegrityViolationException e) {
             return new ApiResponse("Error getting author: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
@@ -150,6 +178,35 @@ public class AuthorServiceImpl implements AuthorService{
         
     }
 
+    /**
+     * Method to get several authors by their ids with one query per chunk of ids
+     *
+     * @param ids List of Integer with the ids of the authors
+     *
+     * @return ApiResponse object with the authors found, in the order of the ids, and the ids not found
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getAuthorsByIDs(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) return new ApiResponse("Author ids cannot be empty", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.size() > BatchResponse.MAX_IDS) return new ApiResponse("Cannot get more than " + BatchResponse.MAX_IDS + " authors at once", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.stream().anyMatch(Objects::isNull)) return new ApiResponse("Author ids cannot contain null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            BatchResponse<AuthorView> authors = BatchResponse.of(ids, this.authorRepo::findViewsByIdIn, AuthorView::id);
+
+            return new ApiResponse("Authors retrieved successfully", true, authors, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving authors: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving authors: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving authors: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Service to get all authors
      * 
@@ -160,18 +217,19 @@ public class AuthorServiceImpl implements AuthorService{
      * 
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getAllAuthorsPaginated(Integer page, Integer size) {
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
             
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Author> authorsPage = this.authorRepo.findAll(pageable);
+            Pageable pageable = allAuthorsPage(page, size);
+            Page<AuthorView> authorsPage = this.authorRepo.findViewsBy(pageable);
 
             if (authorsPage.isEmpty()) return new ApiResponse("Authors not found", false, null, HttpStatus.NOT_FOUND);
 
-            List<Author> authors = authorsPage.getContent();
+            List<AuthorView> authors = authorsPage.getContent();
 
             return new ApiResponse("Authors retrieved successfully", true, authors, HttpStatus.OK);
 
@@ -185,6 +243,110 @@ public class AuthorServiceImpl implements AuthorService{
         
     }
 
+    /**
+     * Service to get all authors using keyset pagination
+     * 
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     * 
+     * @return ApiResponse object with the result of the operation
+     * 
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getAllAuthorsByCursor(String after, Integer size) {
+        if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            int afterId = Cursor.decodeId(after);
+            List<AuthorView> authors = this.authorRepo.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size + 1));
+
+            if (authors.isEmpty()) return new ApiResponse("Authors not found", false, null, HttpStatus.NOT_FOUND);
+
+            CursorPage<AuthorView> authorPage = CursorPage.of(authors, size, a -> Cursor.encode(a.id()));
+
+            return new ApiResponse("Authors retrieved successfully", true, authorPage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error getting authors: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error getting authors: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error getting authors: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the version of a author, read before getByID to answer conditional requests
+     *
+     * @param id Integer with the ID of the author
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the author, null when it does not exist or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAuthorVersion(Integer id) {
+        if (id == null) return null;
+
+        try {
+            return this.authorRepo.findVersionById(id).map(v -> ResourceVersion.of("author", v)).orElse(null);
+        } catch (Exception e) {
+            // no validators, the request takes the normal path and reports the error
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a page of authors, read before getAll to answer conditional requests
+     *
+     * @param page Integer with the page number
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllAuthorsVersion(Integer page, Integer size) {
+        if (page == null || size == null) return null;
+
+        try {
+            List<VersionStamp> versions = this.authorRepo.findVersionsBy(allAuthorsPage(page, size));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("authors", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a keyset page of authors, read before getAll to answer conditional requests
+     *
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllAuthorsVersionByCursor(String after, Integer size) {
+        if (size == null || size < 1) return null;
+
+        try {
+            // size + 1 rows, as the extra row decides the next cursor of the page
+            List<VersionStamp> versions = this.authorRepo.findVersionsByIdGreaterThanOrderByIdAsc(Cursor.decodeId(after), PageRequest.of(0, size + 1));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("authors:cursor", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * Service to get all authors
      * 
@@ -207,6 +369,8 @@ public class AuthorServiceImpl implements AuthorService{
             Author authorEntity = optionalAuthor.get();
 
             this.authorRepo.delete(authorEntity);
+            this.publicationStatistics.add(Counter.PAPERS_PER_RESEARCHER, authorEntity.getResearcher().getId(), -1);
+            this.coauthorGraph.remove(authorEntity.getResearcher().getId(), authorEntity.getArticle().getId());
 
             return new ApiResponse("Author deleted successfully", true, null, HttpStatus.OK);
 
@@ -220,4 +384,9 @@ public class AuthorServiceImpl implements AuthorService{
         
     }
 
+    // the 0-based page of getAll in id order, shared with its version so the ETag covers the rows returned
+    private static Pageable allAuthorsPage(Integer page, Integer size) {
+        return PageRequest.of(page, size, Sort.by("id"));
+    }
+
 }
\ No newline at end of file
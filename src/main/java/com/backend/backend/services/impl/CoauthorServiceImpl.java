@@ -0,0 +1,150 @@
+package com.backend.backend.services.impl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.backend.backend.graph.CoauthorGraph;
+import com.backend.backend.payloads.CollaborationPath;
+import com.backend.backend.payloads.IdCount;
+import com.backend.backend.payloads.ResearcherDistance;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.services.CoauthorService;
+import com.backend.backend.utils.ApiResponse;
+
+import jakarta.persistence.PersistenceException;
+
+/*
+ * Queries of the co-authorship graph. They are answered from CoauthorGraph
+ * only: walking the Author table in SQL costs a join per hop, so until
+ * the graph is built they answer 503. The database is read only to tell
+ * an unknown researcher (404) from one without papers.
+ */
+@Service
+public class CoauthorServiceImpl implements CoauthorService {
+
+    public static final int MAX_HOPS = 6;
+    public static final int MAX_RESULTS = 1000;
+
+    @Autowired
+    private CoauthorGraph coauthorGraph;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    /**
+     * Method to get a shortest chain of co-authors between two researchers
+     *
+     * @param from Integer with the ID of the first Researcher
+     * @param to Integer with the ID of the second Researcher
+     *
+     * @return ApiResponse object with the collaboration distance and the chain of researcher ids
+     */
+    @Override
+    public ApiResponse getCollaborationPath(Integer from, Integer to) {
+        if (from == null || to == null) return new ApiResponse("Researcher IDs cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (!this.coauthorGraph.isReady()) return notReady();
+
+        try {
+            if (!exists(from) || !exists(to)) return new ApiResponse("Researcher not found", false, null, HttpStatus.NOT_FOUND);
+
+            CollaborationPath path = this.coauthorGraph.path(from, to);
+            String message = path.distance() == null ? "Researchers are not connected" : "Collaboration path retrieved successfully";
+
+            return new ApiResponse(message, true, path, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving collaboration path: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving collaboration path: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving collaboration path: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the researchers within some co-authorships of a researcher
+     *
+     * @param id Integer with the ID of the Researcher
+     * @param hops Integer with the maximum distance, from 1 to MAX_HOPS
+     * @param limit Integer with the maximum number of researchers, from 1 to MAX_RESULTS
+     *
+     * @return ApiResponse object with the researchers and their distance, nearest first
+     */
+    @Override
+    public ApiResponse getNeighbourhood(Integer id, Integer hops, Integer limit) {
+        if (id == null) return new ApiResponse("Researcher ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (hops == null || hops < 1 || hops > MAX_HOPS) return new ApiResponse("Hops must be between 1 and " + MAX_HOPS, false, null, HttpStatus.BAD_REQUEST);
+        if (limit == null || limit < 1 || limit > MAX_RESULTS) return new ApiResponse("Limit must be between 1 and " + MAX_RESULTS, false, null, HttpStatus.BAD_REQUEST);
+        if (!this.coauthorGraph.isReady()) return notReady();
+
+        try {
+            if (!exists(id)) return new ApiResponse("Researcher not found", false, null, HttpStatus.NOT_FOUND);
+
+            List<ResearcherDistance> neighbourhood = this.coauthorGraph.neighbourhood(id, hops, limit);
+
+            return new ApiResponse("Neighbourhood retrieved successfully", true, neighbourhood, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving neighbourhood: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving neighbourhood: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving neighbourhood: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the most frequent co-authors of a researcher
+     *
+     * @param id Integer with the ID of the Researcher
+     * @param limit Integer with the maximum number of co-authors, from 1 to MAX_RESULTS
+     *
+     * @return ApiResponse object with the co-author ids and the number of shared articles
+     */
+    @Override
+    public ApiResponse getTopCoauthors(Integer id, Integer limit) {
+        if (id == null) return new ApiResponse("Researcher ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (limit == null || limit < 1 || limit > MAX_RESULTS) return new ApiResponse("Limit must be between 1 and " + MAX_RESULTS, false, null, HttpStatus.BAD_REQUEST);
+        if (!this.coauthorGraph.isReady()) return notReady();
+
+        try {
+            if (!exists(id)) return new ApiResponse("Researcher not found", false, null, HttpStatus.NOT_FOUND);
+
+            List<IdCount> coauthors = this.coauthorGraph.topCoauthors(id, limit);
+
+            return new ApiResponse("Co-authors retrieved successfully", true, coauthors, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving co-authors: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving co-authors: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving co-authors: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to reload the co-authorship graph from the database
+     *
+     * @return ApiResponse object with the result of the operation
+     */
+    @Override
+    public ApiResponse rebuildGraph() {
+        if (!this.coauthorGraph.rebuild()) return new ApiResponse("Co-authorship graph rebuild failed", false, null, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        return new ApiResponse("Co-authorship graph rebuilt successfully", true, null, HttpStatus.OK);
+    }
+
+    // a researcher with papers in the graph exists, only the others need the database
+    private boolean exists(int id) {
+        return this.coauthorGraph.papers(id) > 0 || this.researcherRepo.existsById(id);
+    }
+
+    private static ApiResponse notReady() {
+        return new ApiResponse("Co-authorship graph is not built yet", false, null, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
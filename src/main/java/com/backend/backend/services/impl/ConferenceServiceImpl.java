@@ -2,22 +2,34 @@ package com.backend.backend.services.impl;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.backend.entities.Conference;
 import com.backend.backend.payloads.ConferenceDTO;
+import com.backend.backend.payloads.ConferenceView;
+import com.backend.backend.payloads.VersionStamp;
 import com.backend.backend.repositories.ConferenceRepo;
 import com.backend.backend.services.ConferenceService;
+import com.backend.backend.statistics.PublicationStatistics;
+import com.backend.backend.statistics.PublicationStatistics.Counter;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.BatchResponse;
+import com.backend.backend.utils.Cursor;
+import com.backend.backend.utils.CursorPage;
+import com.backend.backend.utils.ResourceVersion;
+import com.backend.backend.utils.SliceResponse;
 import com.backend.backend.utils.Transformations;
 
 import jakarta.persistence.PersistenceException;
@@ -28,6 +40,9 @@ public class ConferenceServiceImpl implements ConferenceService {
     @Autowired
     private ConferenceRepo conferenceRepo;
 
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
     /**
      * Create a new conference
      * 
@@ -45,6 +60,7 @@ public class ConferenceServiceImpl implements ConferenceService {
             Conference conferenceEntity = Transformations.dtoToConference(conferenceDto);
 
             this.conferenceRepo.save(conferenceEntity);
+            this.publicationStatistics.add(Counter.EDITIONS_PER_CONFERENCE, conferenceEntity.getId(), 0);
 
             return new ApiResponse("Conference created successfully", true, conferenceEntity, HttpStatus.CREATED);
 
@@ -106,6 +122,7 @@ public class ConferenceServiceImpl implements ConferenceService {
             Conference deletedConference = optionalConference.get();
 
             this.conferenceRepo.delete(deletedConference);
+            this.publicationStatistics.remove(Counter.EDITIONS_PER_CONFERENCE, deletedConference.getId());
 
             return new ApiResponse("Conference deleted successfully", true, deletedConference, HttpStatus.OK);
 
@@ -119,15 +136,16 @@ public class ConferenceServiceImpl implements ConferenceService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getConferenceByID(Integer id) {
         if (id == null) return new ApiResponse("Conference ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
-            Optional<Conference> optionalConference = this.conferenceRepo.findById(id);
+            Optional<ConferenceView> optionalConference = this.conferenceRepo.findViewById(id);
             
             if (!optionalConference.isPresent()) return new ApiResponse("Conference with id " + id + " not found", false, null, HttpStatus.NOT_FOUND);
 
-            Conference conference = optionalConference.get();
+            ConferenceView conference = optionalConference.get();
 
             return new ApiResponse("Conference retrieved successfully", true, conference, HttpStatus.OK);
         } catch (DataIntegrityViolationException e) {
@@ -139,6 +157,35 @@ public class ConferenceServiceImpl implements ConferenceService {
         }
     }
 
+    /**
+     * Method to get several conferences by their ids with one query per chunk of ids
+     *
+     * @param ids List of Integer with the ids of the conferences
+     *
+     * @return ApiResponse object with the conferences found, in the order of the ids, and the ids not found
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getConferencesByIDs(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) return new ApiResponse("Conference ids cannot be empty", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.size() > BatchResponse.MAX_IDS) return new ApiResponse("Cannot get more than " + BatchResponse.MAX_IDS + " conferences at once", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.stream().anyMatch(Objects::isNull)) return new ApiResponse("Conference ids cannot contain null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            BatchResponse<ConferenceView> conferences = BatchResponse.of(ids, this.conferenceRepo::findViewsByIdIn, ConferenceView::id);
+
+            return new ApiResponse("Conferences retrieved successfully", true, conferences, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving conferences: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving conferences: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving conferences: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Get all conferences paginated
      * 
@@ -149,19 +196,19 @@ public class ConferenceServiceImpl implements ConferenceService {
      * 
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ApiResponse getAllConferencesPaginated(Integer page, Integer size) {
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
 
-            Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Conference> conferencePage = this.conferenceRepo.findAll(pageable);
+            Pageable pageable = allConferencesPage(page, size);
+            Page<ConferenceView> conferencePage = this.conferenceRepo.findViewsBy(pageable);
 
             if(conferencePage.isEmpty()) return new ApiResponse("No conferences found", true, null, HttpStatus.NOT_FOUND);
 
-            List<Conference> conferences = conferencePage.getContent();
+            List<ConferenceView> conferences = conferencePage.getContent();
 
             return new ApiResponse("Conferences retrieved successfully", true, conferences, HttpStatus.OK);
 
@@ -174,19 +221,124 @@ public class ConferenceServiceImpl implements ConferenceService {
         }
     }
 
+    /**
+     * Get all conferences using keyset pagination
+     * 
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     * 
+     * @return ApiResponse object with the result of the operation
+     * 
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getAllConferencesByCursor(String after, Integer size) {
+        if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            int afterId = Cursor.decodeId(after);
+            List<ConferenceView> conferences = this.conferenceRepo.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size + 1));
+
+            if (conferences.isEmpty()) return new ApiResponse("No conferences found", true, null, HttpStatus.NOT_FOUND);
+
+            CursorPage<ConferenceView> conferencePage = CursorPage.of(conferences, size, c -> Cursor.encode(c.id()));
+
+            return new ApiResponse("Conferences retrieved successfully", true, conferencePage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving conferences: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving conferences: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving conferences: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the version of a conference, read before getByID to answer conditional requests
+     *
+     * @param id Integer with the ID of the conference
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the conference, null when it does not exist or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getConferenceVersion(Integer id) {
+        if (id == null) return null;
+
+        try {
+            return this.conferenceRepo.findVersionById(id).map(v -> ResourceVersion.of("conference", v)).orElse(null);
+        } catch (Exception e) {
+            // no validators, the request takes the normal path and reports the error
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a page of conferences, read before getAll to answer conditional requests
+     *
+     * @param page Integer with the page number
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllConferencesVersion(Integer page, Integer size) {
+        if (page == null || size == null) return null;
+
+        try {
+            List<VersionStamp> versions = this.conferenceRepo.findVersionsBy(allConferencesPage(page, size));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("conferences", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a keyset page of conferences, read before getAll to answer conditional requests
+     *
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllConferencesVersionByCursor(String after, Integer size) {
+        if (size == null || size < 1) return null;
+
+        try {
+            // size + 1 rows, as the extra row decides the next cursor of the page
+            List<VersionStamp> versions = this.conferenceRepo.findVersionsByIdGreaterThanOrderByIdAsc(Cursor.decodeId(after), PageRequest.of(0, size + 1));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("conferences:cursor", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * Get all conferences by name containing paginated
      * 
      * @param name the name of the conference
      * @param page the page number
      * @param size the size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse with the result of the operation
      * 
      */
     @Override
-    @Transactional
-    public ApiResponse getConferencesByNamePaginated(String name, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getConferencesByNamePaginated(String name, Integer page, Integer size, Boolean withTotal) {
         if (name == null) return new ApiResponse("Name cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
@@ -194,11 +346,15 @@ public class ConferenceServiceImpl implements ConferenceService {
         try {
             
             Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Conference> conferencePage = this.conferenceRepo.findByNameContaining(name, pageable);
+            Slice<ConferenceView> conferencePage = Boolean.FALSE.equals(withTotal)
+                ? this.conferenceRepo.findSliceByNameContaining(name, pageable)
+                : this.conferenceRepo.findByNameContaining(name, pageable);
 
             if(conferencePage.isEmpty()) return new ApiResponse("No conferences found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
 
-            List<Conference> conferences = conferencePage.getContent();
+            List<ConferenceView> conferences = conferencePage.getContent();
+
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Conferences retrieved successfully", true, new SliceResponse<>(conferences, conferencePage.hasNext()), HttpStatus.OK);
 
             return new ApiResponse("Conferences retrieved successfully", true, conferences, HttpStatus.OK);
 
@@ -212,4 +368,9 @@ public class ConferenceServiceImpl implements ConferenceService {
         }
     }
 
+    // the 1-based page of getAll in id order, shared with its version so the ETag covers the rows returned
+    private static Pageable allConferencesPage(Integer page, Integer size) {
+        return PageRequest.of(page - 1, size, Sort.by("id"));
+    }
+
 }
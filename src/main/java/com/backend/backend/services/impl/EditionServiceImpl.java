@@ -4,23 +4,36 @@ import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.backend.entities.Conference;
 import com.backend.backend.entities.Edition;
 import com.backend.backend.payloads.EditionDTO;
+import com.backend.backend.payloads.EditionView;
+import com.backend.backend.payloads.VersionStamp;
 import com.backend.backend.repositories.ConferenceRepo;
 import com.backend.backend.repositories.EditionRepo;
 import com.backend.backend.services.EditionService;
+import com.backend.backend.statistics.PublicationStatistics;
+import com.backend.backend.statistics.PublicationStatistics.Counter;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.BatchResponse;
+import com.backend.backend.utils.Cursor;
+import com.backend.backend.utils.CursorPage;
+import com.backend.backend.utils.ResourceVersion;
+import com.backend.backend.utils.SliceResponse;
 import com.backend.backend.utils.Transformations;
 
 import jakarta.persistence.PersistenceException;
@@ -33,6 +46,9 @@ public class EditionServiceImpl implements EditionService{
 
     @Autowired
     private EditionRepo editionRepo;
+
+    @Autowired
+    private PublicationStatistics publicationStatistics;
     
     /**
      * Create a new edition
@@ -56,6 +72,8 @@ public class EditionServiceImpl implements EditionService{
             editionEntity.setConference(conferenceEntity);
 
             this.editionRepo.save(editionEntity);
+            this.publicationStatistics.add(Counter.PAPERS_PER_EDITION, editionEntity.getId(), 0);
+            this.publicationStatistics.add(Counter.EDITIONS_PER_CONFERENCE, conferenceEntity.getId(), 1);
 
             return new ApiResponse("Edition created successfully", true, editionEntity, HttpStatus.CREATED);
 
@@ -92,12 +110,14 @@ public class EditionServiceImpl implements EditionService{
             if (!optionalConference.isPresent()) return new ApiResponse("Conference with id " + editionDTO.getRef_conference() + " does not exist", false, null, HttpStatus.NOT_FOUND);
             Conference conferenceEntity = optionalConference.get();
 
+            int previousConferenceId = editionEntity.getConference().getId();
             editionEntity.setCity(editionDTO.getCity());
             editionEntity.setDate(editionDTO.getDate());
             editionEntity.setYear(editionDTO.getYear());
             editionEntity.setConference(conferenceEntity);
 
             this.editionRepo.save(editionEntity);
+            this.publicationStatistics.move(Counter.EDITIONS_PER_CONFERENCE, previousConferenceId, conferenceEntity.getId());
 
             return new ApiResponse("Edition updated successfully", true, editionEntity, HttpStatus.OK);
 
@@ -119,15 +139,16 @@ public class EditionServiceImpl implements EditionService{
      * 
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getEditionByID(Integer id) {
         if (id == null) return new ApiResponse("Edition id cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
-            Optional<Edition> optionalEdition = this.editionRepo.findById(id);
+            Optional<EditionView> optionalEdition = this.editionRepo.findViewById(id);
             if (!optionalEdition.isPresent()) return new ApiResponse("Edition with id " + id + " does not exist", false, null, HttpStatus.NOT_FOUND);
-            Edition editionEntity = optionalEdition.get();
+            EditionView edition = optionalEdition.get();
 
-            return new ApiResponse("Edition retrieved successfully", true, editionEntity, HttpStatus.OK);
+            return new ApiResponse("Edition retrieved successfully", true, edition, HttpStatus.OK);
 
         } catch (DataIntegrityViolationException e) {
             return new ApiResponse("Error getting edition: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
@@ -138,6 +159,35 @@ public class EditionServiceImpl implements EditionService{
         }
     }
 
+    /**
+     * Method to get several editions by their ids with one query per chunk of ids
+     *
+     * @param ids List of Integer with the ids of the editions
+     *
+     * @return ApiResponse object with the editions found, in the order of the ids, and the ids not found
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsByIDs(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) return new ApiResponse("Edition ids cannot be empty", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.size() > BatchResponse.MAX_IDS) return new ApiResponse("Cannot get more than " + BatchResponse.MAX_IDS + " editions at once", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.stream().anyMatch(Objects::isNull)) return new ApiResponse("Edition ids cannot contain null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            BatchResponse<EditionView> editions = BatchResponse.of(ids, this.editionRepo::findViewsByIdIn, EditionView::id);
+
+            return new ApiResponse("Editions retrieved successfully", true, editions, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving editions: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving editions: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving editions: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Get all editions
      * 
@@ -147,17 +197,18 @@ public class EditionServiceImpl implements EditionService{
      * @return ApiResponse indicating the result of the operation
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getAllEditionsPaginated(Integer page, Integer size) {
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
 
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Edition> editionsPage = this.editionRepo.findAll(pageable);
+            Pageable pageable = allEditionsPage(page, size);
+            Page<EditionView> editionsPage = this.editionRepo.findViewsBy(pageable);
 
             if (editionsPage.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
-            List<Edition> editions = editionsPage.getContent();
+            List<EditionView> editions = editionsPage.getContent();
             
             return new ApiResponse("Editions retrieved successfully", true, editions, HttpStatus.OK);
 
@@ -171,6 +222,110 @@ public class EditionServiceImpl implements EditionService{
         
     }
 
+    /**
+     * Get all editions using keyset pagination
+     * 
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     * 
+     * @return ApiResponse object with the result of the operation
+     * 
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getAllEditionsByCursor(String after, Integer size) {
+        if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            int afterId = Cursor.decodeId(after);
+            List<EditionView> editions = this.editionRepo.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size + 1));
+
+            if (editions.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
+
+            CursorPage<EditionView> editionPage = CursorPage.of(editions, size, e -> Cursor.encode(e.id()));
+
+            return new ApiResponse("Editions retrieved successfully", true, editionPage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error getting editions: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error getting editions: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error getting editions: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the version of a edition, read before getByID to answer conditional requests
+     *
+     * @param id Integer with the ID of the edition
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the edition, null when it does not exist or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getEditionVersion(Integer id) {
+        if (id == null) return null;
+
+        try {
+            return this.editionRepo.findVersionById(id).map(v -> ResourceVersion.of("edition", v)).orElse(null);
+        } catch (Exception e) {
+            // no validators, the request takes the normal path and reports the error
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a page of editions, read before getAll to answer conditional requests
+     *
+     * @param page Integer with the page number
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllEditionsVersion(Integer page, Integer size) {
+        if (page == null || size == null) return null;
+
+        try {
+            List<VersionStamp> versions = this.editionRepo.findVersionsBy(allEditionsPage(page, size));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("editions", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a keyset page of editions, read before getAll to answer conditional requests
+     *
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllEditionsVersionByCursor(String after, Integer size) {
+        if (size == null || size < 1) return null;
+
+        try {
+            // size + 1 rows, as the extra row decides the next cursor of the page
+            List<VersionStamp> versions = this.editionRepo.findVersionsByIdGreaterThanOrderByIdAsc(Cursor.decodeId(after), PageRequest.of(0, size + 1));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("editions:cursor", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * Delete an edition by id
      * 
@@ -190,6 +345,9 @@ public class EditionServiceImpl implements EditionService{
             Edition editionEntity = optionalEdition.get();
 
             this.editionRepo.delete(editionEntity);
+            // the articles of the edition went with it (on delete cascade), and with them its papers count
+            this.publicationStatistics.remove(Counter.PAPERS_PER_EDITION, editionEntity.getId());
+            this.publicationStatistics.add(Counter.EDITIONS_PER_CONFERENCE, editionEntity.getConference().getId(), -1);
 
             return new ApiResponse("Edition deleted successfully", true, editionEntity, HttpStatus.OK);
             
@@ -209,12 +367,14 @@ public class EditionServiceImpl implements EditionService{
      * @param year The year of the editions to be retrieved
      * @param page The page number
      * @param size The size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse indicating the result of the operation
      * 
      */
     @Override
-    public ApiResponse getEditionsByYearPaginated(Integer year, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsByYearPaginated(Integer year, Integer page, Integer size, Boolean withTotal) {
         if(year == null) return new ApiResponse("Year cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
@@ -222,13 +382,17 @@ public class EditionServiceImpl implements EditionService{
         try {
                 
             Pageable pageable = PageRequest.of(page, size);
-            Page<Edition> editionPage = this.editionRepo.findByYear(year, pageable);
+            Slice<EditionView> editionPage = Boolean.FALSE.equals(withTotal)
+                ? this.editionRepo.findSliceByYear(year, pageable)
+                : this.editionRepo.findByYear(year, pageable);
 
             if (editionPage.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
 
-            List<Edition> editions = editionPage.getContent();
+            List<EditionView> editions = editionPage.getContent();
             
 
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Editions retrieved successfully", true, new SliceResponse<>(editions, editionPage.hasNext()), HttpStatus.OK);
+
             return new ApiResponse("Editions retrieved successfully", true, editions, HttpStatus.OK);
 
         } catch (DataIntegrityViolationException e) {
@@ -248,11 +412,13 @@ public class EditionServiceImpl implements EditionService{
      * @param endYear The end year of the editions to be retrieved
      * @param page The page number
      * @param size The size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse indicating the result of the operation
      */
     @Override
-    public ApiResponse getEditionsBetweenYearsPaginated(Integer startYear, Integer endYear, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsBetweenYearsPaginated(Integer startYear, Integer endYear, Integer page, Integer size, Boolean withTotal) {
         if(startYear == null) return new ApiResponse("Start year cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(endYear == null) return new ApiResponse("End year cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
@@ -260,11 +426,15 @@ public class EditionServiceImpl implements EditionService{
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Edition> editionPage = this.editionRepo.findByYearBetween(startYear, endYear, pageable);
+            Slice<EditionView> editionPage = Boolean.FALSE.equals(withTotal)
+                ? this.editionRepo.findSliceByYearBetween(startYear, endYear, pageable)
+                : this.editionRepo.findByYearBetween(startYear, endYear, pageable);
 
             if (editionPage.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
 
-            List<Edition> editions = editionPage.getContent();
+            List<EditionView> editions = editionPage.getContent();
+
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Editions retrieved successfully", true, new SliceResponse<>(editions, editionPage.hasNext()), HttpStatus.OK);
 
             return new ApiResponse("Editions retrieved successfully", true, editions, HttpStatus.OK);
     
@@ -284,23 +454,29 @@ public class EditionServiceImpl implements EditionService{
      * @param city The city of the editions to be retrieved
      * @param page The page number
      * @param size The size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse indicating the result of the operation
      * 
      */
     @Override
-    public ApiResponse getEditionsByCityPaginated(String city, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsByCityPaginated(String city, Integer page, Integer size, Boolean withTotal) {
         if(city == null) return new ApiResponse("City cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Edition> editionPage = this.editionRepo.findByCityContaining(city, pageable);
+            Slice<EditionView> editionPage = Boolean.FALSE.equals(withTotal)
+                ? this.editionRepo.findSliceByCityContaining(city, pageable)
+                : this.editionRepo.findByCityContaining(city, pageable);
 
             if (editionPage.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
 
-            List<Edition> editions = editionPage.getContent();
+            List<EditionView> editions = editionPage.getContent();
+
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Editions retrieved successfully", true, new SliceResponse<>(editions, editionPage.hasNext()), HttpStatus.OK);
 
             return new ApiResponse("Editions retrieved successfully", true, editions, HttpStatus.OK);
     
@@ -319,12 +495,14 @@ public class EditionServiceImpl implements EditionService{
      * @param date The date of the editions to be retrieved
      * @param page The page number
      * @param size The size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse indicating the result of the operation
      * 
      */
     @Override
-    public ApiResponse getEditionsByDatePaginated(String date, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsByDatePaginated(String date, Integer page, Integer size, Boolean withTotal) {
         if(date == null) return new ApiResponse("Date cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if(size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
@@ -333,11 +511,15 @@ public class EditionServiceImpl implements EditionService{
             Date d = new SimpleDateFormat("yyyy-MM-dd").parse(date);
             try {
                 Pageable pageable = PageRequest.of(page, size);
-                Page<Edition> editionPage = this.editionRepo.findByDate(d, pageable);
+                Slice<EditionView> editionPage = Boolean.FALSE.equals(withTotal)
+                    ? this.editionRepo.findSliceByDate(d, pageable)
+                    : this.editionRepo.findByDate(d, pageable);
 
                 if (editionPage.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
 
-                List<Edition> editions = editionPage.getContent();
+                List<EditionView> editions = editionPage.getContent();
+
+                if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Editions retrieved successfully", true, new SliceResponse<>(editions, editionPage.hasNext()), HttpStatus.OK);
 
                 return new ApiResponse("Editions retrieved successfully", true, editions, HttpStatus.OK);
 
@@ -355,4 +537,138 @@ public class EditionServiceImpl implements EditionService{
 
     }
 
+    /**
+     * Get all editions by year using keyset pagination
+     * 
+     * @param year The year of the editions to be retrieved
+     * @param after The cursor of the previous page (null or empty for the first page)
+     * @param size The size of the page
+     * 
+     * @return ApiResponse indicating the result of the operation
+     * 
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsByYearByCursor(Integer year, String after, Integer size) {
+        if(year == null) return new ApiResponse("Year cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if(size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if(size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            int afterId = Cursor.decodeId(after);
+            List<EditionView> editions = this.editionRepo.findByYearAndIdGreaterThanOrderByIdAsc(year, afterId, PageRequest.of(0, size + 1));
+
+            if (editions.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
+
+            CursorPage<EditionView> editionPage = CursorPage.of(editions, size, e -> Cursor.encode(e.id()));
+
+            return new ApiResponse("Editions retrieved successfully", true, editionPage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error getting editions: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error getting editions: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error getting editions: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Get all editions between years using keyset pagination, ordered by year
+     * 
+     * @param startYear The start year of the editions to be retrieved
+     * @param endYear The end year of the editions to be retrieved
+     * @param after The cursor of the previous page (null or empty for the first page)
+     * @param size The size of the page
+     * 
+     * @return ApiResponse indicating the result of the operation
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsBetweenYearsByCursor(Integer startYear, Integer endYear, String after, Integer size) {
+        if(startYear == null) return new ApiResponse("Start year cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if(endYear == null) return new ApiResponse("End year cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if(size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if(size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            int afterYear = startYear;
+            int afterId = 0;
+            if (!Cursor.isFirstPage(after)) {
+                String[] keys = Cursor.decode(after, 2);
+                afterYear = Integer.parseInt(keys[0]);
+                afterId = Integer.parseInt(keys[1]);
+            }
+
+            List<EditionView> editions = this.editionRepo.findByYearBetweenAfter(startYear, endYear, afterYear, afterId, PageRequest.of(0, size + 1));
+
+            if (editions.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
+
+            CursorPage<EditionView> editionPage = CursorPage.of(editions, size, e -> Cursor.encode(e.year(), e.id()));
+
+            return new ApiResponse("Editions retrieved successfully", true, editionPage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error getting editions: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error getting editions: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error getting editions: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Get all editions by city using keyset pagination, ordered by city
+     * 
+     * @param city The city of the editions to be retrieved
+     * @param after The cursor of the previous page (null or empty for the first page)
+     * @param size The size of the page
+     * 
+     * @return ApiResponse indicating the result of the operation
+     * 
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getEditionsByCityByCursor(String city, String after, Integer size) {
+        if(city == null) return new ApiResponse("City cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if(size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if(size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            String afterCity = "";
+            int afterId = 0;
+            if (!Cursor.isFirstPage(after)) {
+                String[] keys = Cursor.decode(after, 2);
+                afterId = Integer.parseInt(keys[0]);
+                afterCity = keys[1];
+            }
+
+            List<EditionView> editions = this.editionRepo.findByCityContainingAfter(city, afterCity, afterId, PageRequest.of(0, size + 1));
+
+            if (editions.isEmpty()) return new ApiResponse("No editions found", true, Collections.emptyList(), HttpStatus.NOT_FOUND);
+
+            CursorPage<EditionView> editionPage = CursorPage.of(editions, size, e -> Cursor.encode(e.id(), e.city()));
+
+            return new ApiResponse("Editions retrieved successfully", true, editionPage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error getting editions: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error getting editions: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error getting editions: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // the 0-based page of getAll in id order, shared with its version so the ETag covers the rows returned
+    private static Pageable allEditionsPage(Integer page, Integer size) {
+        return PageRequest.of(page, size, Sort.by("id"));
+    }
+
 }
@@ -0,0 +1,145 @@
+package com.backend.backend.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.repositories.AuthorRepo;
+import com.backend.backend.repositories.ConferenceRepo;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.services.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/*
+ * Writes whole tables as NDJSON (one JSON object per line) to an output
+ * stream. Each export is one read-only, repeatable read transaction over a
+ * single forward-only query, so the rows form a consistent snapshot even
+ * while other requests write. Rows are serialized as they are fetched and
+ * the persistence context is cleared every CLEAR_EVERY rows, so the heap
+ * stays flat whatever the size of the table.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final int CLEAR_EVERY = 1000;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private ArticleRepo articleRepo;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Method to write every researcher as NDJSON
+     *
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportResearchers(OutputStream out) throws IOException {
+        return write(this.researcherRepo.streamAllOrderById(), out);
+    }
+
+    /**
+     * Method to write every conference as NDJSON
+     *
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportConferences(OutputStream out) throws IOException {
+        return write(this.conferenceRepo.streamAllOrderById(), out);
+    }
+
+    /**
+     * Method to write every edition, with its conference, as NDJSON
+     *
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportEditions(OutputStream out) throws IOException {
+        return write(this.editionRepo.streamAllOrderById(), out);
+    }
+
+    /**
+     * Method to write every article, with its edition and conference, as NDJSON
+     *
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportArticles(OutputStream out) throws IOException {
+        return write(this.articleRepo.streamAllOrderById(), out);
+    }
+
+    /**
+     * Method to write every author, with its researcher and article, as NDJSON
+     *
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportAuthors(OutputStream out) throws IOException {
+        return write(this.authorRepo.streamAllOrderById(), out);
+    }
+
+    private <T> long write(Stream<T> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (rows; JsonGenerator generator = this.objectMapper.createGenerator(out)) {
+            // the caller owns the stream (it may be a gzip wrapper to finish)
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            SequenceWriter writer = this.objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(generator);
+
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++count % CLEAR_EVERY == 0) this.entityManager.clear();
+            }
+            if (count > 0) generator.writeRaw('\n');
+        }
+        return count;
+    }
+}
@@ -0,0 +1,468 @@
+package com.backend.backend.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Author;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.graph.CoauthorGraph;
+import com.backend.backend.payloads.ArticleDTO;
+import com.backend.backend.payloads.AuthorDTO;
+import com.backend.backend.payloads.ResearcherDTO;
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.search.ResearcherSearchIndex;
+import com.backend.backend.services.ImportService;
+import com.backend.backend.statistics.PublicationStatistics;
+import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ImportReport;
+import com.backend.backend.utils.Transformations;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/*
+ * Bulk import of researchers, articles and author links from a streamed
+ * NDJSON or CSV body. Every row names its kind in a "type" column
+ * (researcher, article or author) and carries the fields of the matching
+ * DTO. Researcher and article rows may carry a "key" chosen by the client,
+ * and author rows may point at them with "researcher_key"/"article_key"
+ * instead of ref_researcher/ref_article, so a whole proceedings can be
+ * loaded in one upload.
+ *
+ * The body is read line by line and handled in chunks of CHUNK_SIZE rows:
+ * the chunk is validated in parallel against the DTO constraints, its
+ * edition/article/researcher references are checked with one IN query per
+ * table and it is written in its own transaction. Only the current chunk,
+ * the client keys of the last import.key-window-chunks chunks and the
+ * first MAX_REPORTED_ERRORS errors are kept in memory, so the size of the
+ * upload does not matter. An author row must therefore come within that
+ * window of the rows whose keys it uses (10000 rows by default); a key
+ * from further back is reported as not found, like an unknown one.
+ */
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private ArticleRepo articleRepo;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private ResearcherSearchIndex researcherSearchIndex;
+
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
+    @Autowired
+    private CoauthorGraph coauthorGraph;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${import.key-window-chunks:20}")
+    private int keyWindowChunks;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper rowMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Method to import researchers, articles and authors from a NDJSON or CSV stream
+     *
+     * @param body InputStream with the rows to import
+     * @param contentType String with the content type of the body (application/x-ndjson or text/csv)
+     *
+     * @return ApiResponse object with the result of the operation
+     *
+     */
+    @Override
+    public ApiResponse importRows(InputStream body, String contentType) {
+        if (body == null) return new ApiResponse("Body cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (contentType == null) return new ApiResponse("Content type cannot be null", false, null, HttpStatus.BAD_REQUEST);
+
+        String type = contentType.toLowerCase(Locale.ROOT);
+        boolean csv = type.contains("csv");
+        if (!csv && !type.contains("ndjson")) return new ApiResponse("Unsupported content type: " + contentType, false, null, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+
+        // outside the try, so a failure after some chunks committed still reports them
+        ImportReport report = new ImportReport(MAX_REPORTED_ERRORS);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            RowReader rows = csv ? new CsvRowReader(reader) : new NdjsonRowReader(reader, this.rowMapper);
+            KeyWindow keys = new KeyWindow(this.keyWindowChunks);
+
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            ImportRow row;
+            while ((row = rows.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, keys, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) importChunk(chunk, keys, report);
+
+            if (report.getProcessed() == 0) return new ApiResponse("No rows found", false, report, HttpStatus.BAD_REQUEST);
+            if (report.getFailed() > 0) return new ApiResponse("Import completed with errors", true, report, HttpStatus.OK);
+
+            return new ApiResponse("Import completed successfully", true, report, HttpStatus.OK);
+
+        } catch (IOException e) {
+            return new ApiResponse("Error importing rows: Unable to read body" + committed(report), false, report, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error importing rows: " + e.getMessage() + committed(report), false, report, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // the chunks imported before a failure stay committed, the message says so
+    private static String committed(ImportReport report) {
+        return report.getImported() == 0 ? "" : " (" + report.getImported() + " rows before the error were imported)";
+    }
+
+    private void importChunk(List<ImportRow> chunk, KeyWindow keys, ImportReport report) {
+        List<PreparedRow> prepared = chunk.parallelStream().map(this::prepare).collect(Collectors.toList());
+
+        Set<Integer> editionIds = new HashSet<>();
+        Set<Integer> articleIds = new HashSet<>();
+        Set<Integer> researcherIds = new HashSet<>();
+        for (PreparedRow p : prepared) {
+            if (p.error != null) continue;
+            if (p.dto instanceof ArticleDTO a) editionIds.add(a.getRef_edition());
+            if (p.dto instanceof AuthorDTO a) {
+                if (!p.row.has("article_key")) articleIds.add(a.getRef_article());
+                if (!p.row.has("researcher_key")) researcherIds.add(a.getRef_researcher());
+            }
+        }
+        Set<Integer> existingEditions = editionIds.isEmpty() ? Collections.emptySet() : new HashSet<>(this.editionRepo.findExistingIds(editionIds));
+        Set<Integer> existingArticles = articleIds.isEmpty() ? Collections.emptySet() : new HashSet<>(this.articleRepo.findExistingIds(articleIds));
+        Set<Integer> existingResearchers = researcherIds.isEmpty() ? Collections.emptySet() : new HashSet<>(this.researcherRepo.findExistingIds(researcherIds));
+
+        Keys chunkKeys = new Keys();
+        List<Researcher> createdResearchers = new ArrayList<>();
+        List<Integer> articleEditionIds = new ArrayList<>();
+        List<Integer> authorResearcherIds = new ArrayList<>();
+        List<Integer> authorArticleIds = new ArrayList<>();
+
+        try {
+            new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+                for (PreparedRow p : prepared) {
+                    if (p.error != null) continue;
+                    if (p.dto instanceof ResearcherDTO r) {
+                        Researcher researcher = Transformations.dtoToResearcher(r);
+                        this.entityManager.persist(researcher);
+                        createdResearchers.add(researcher);
+                        if (p.row.has("key")) chunkKeys.researchers.put(p.row.get("key"), researcher.getId());
+                    } else if (p.dto instanceof ArticleDTO a) {
+                        if (!existingEditions.contains(a.getRef_edition())) {
+                            p.error = "Edition " + a.getRef_edition() + " not found";
+                            continue;
+                        }
+                        Article article = Transformations.dtoToArticle(a);
+                        article.setEdition(this.entityManager.getReference(Edition.class, a.getRef_edition()));
+                        this.entityManager.persist(article);
+                        articleEditionIds.add(a.getRef_edition());
+                        if (p.row.has("key")) chunkKeys.articles.put(p.row.get("key"), article.getId());
+                    } else if (p.dto instanceof AuthorDTO a) {
+                        Integer articleId = resolve(p, "article_key", a.getRef_article(), existingArticles, keys, chunkKeys, k -> k.articles);
+                        Integer researcherId = resolve(p, "researcher_key", a.getRef_researcher(), existingResearchers, keys, chunkKeys, k -> k.researchers);
+                        if (articleId == null) {
+                            p.error = notFound(p, "Article", "article_key", a.getRef_article());
+                            continue;
+                        }
+                        if (researcherId == null) {
+                            p.error = notFound(p, "Researcher", "researcher_key", a.getRef_researcher());
+                            continue;
+                        }
+                        Author author = new Author();
+                        author.setArticle(this.entityManager.getReference(Article.class, articleId));
+                        author.setResearcher(this.entityManager.getReference(Researcher.class, researcherId));
+                        this.entityManager.persist(author);
+                        authorResearcherIds.add(researcherId);
+                        authorArticleIds.add(articleId);
+                    }
+                }
+                this.entityManager.flush();
+            });
+        } catch (Exception e) {
+            String cause = "Not imported, chunk rolled back: " + e.getMessage();
+            for (PreparedRow p : prepared) report.failed(p.row.line, p.error != null ? p.error : cause);
+            return;
+        }
+
+        keys.add(chunkKeys);
+        createdResearchers.forEach(this.researcherSearchIndex::put);
+        this.publicationStatistics.imported(createdResearchers.stream().map(Researcher::getId).toList(), articleEditionIds, authorResearcherIds);
+        this.coauthorGraph.addAll(authorResearcherIds, authorArticleIds);
+
+        int imported = 0;
+        for (PreparedRow p : prepared) {
+            if (p.error != null) report.failed(p.row.line, p.error);
+            else imported++;
+        }
+        report.imported(imported);
+    }
+
+    // turns a parsed row into its validated DTO; runs on the common pool
+    private PreparedRow prepare(ImportRow row) {
+        if (row.error != null) return new PreparedRow(row, null, row.error);
+
+        Class<?> dtoClass;
+        switch (row.get("type") == null ? "" : row.get("type").toLowerCase(Locale.ROOT)) {
+            case "researcher": dtoClass = ResearcherDTO.class; break;
+            case "article": dtoClass = ArticleDTO.class; break;
+            case "author": dtoClass = AuthorDTO.class; break;
+            default: return new PreparedRow(row, null, "Unknown row type: " + row.get("type"));
+        }
+
+        Object dto;
+        try {
+            dto = this.rowMapper.convertValue(row.fields, dtoClass);
+        } catch (IllegalArgumentException e) {
+            String message = e.getCause() instanceof JsonProcessingException j ? j.getOriginalMessage() : e.getMessage();
+            return new PreparedRow(row, null, "Malformed row: " + message);
+        }
+
+        Set<ConstraintViolation<Object>> violations = this.validator.validate(dto);
+        if (!violations.isEmpty()) {
+            String message = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+            return new PreparedRow(row, null, message);
+        }
+
+        return new PreparedRow(row, dto, null);
+    }
+
+    private static Integer resolve(PreparedRow p, String keyColumn, int id, Set<Integer> existing, KeyWindow keys, Keys chunkKeys, Function<Keys, Map<String, Integer>> kind) {
+        if (!p.row.has(keyColumn)) return existing.contains(id) ? id : null;
+        String key = p.row.get(keyColumn);
+        Integer resolved = kind.apply(chunkKeys).get(key);
+        return resolved != null ? resolved : keys.get(kind, key);
+    }
+
+    // a key is looked up in the current window only, the message says how far back that is
+    private String notFound(PreparedRow p, String entity, String keyColumn, int id) {
+        if (!p.row.has(keyColumn)) return entity + " " + id + " not found";
+        return entity + " with key " + p.row.get(keyColumn) + " not found in the last " + this.keyWindowChunks * CHUNK_SIZE + " rows";
+    }
+
+    // client keys of the researchers and articles imported by one chunk
+    private static class Keys {
+        private final Map<String, Integer> researchers = new HashMap<>();
+        private final Map<String, Integer> articles = new HashMap<>();
+    }
+
+    // the keys of the last chunks imported, newest first; older chunks are forgotten
+    private static class KeyWindow {
+        private final Deque<Keys> chunks = new ArrayDeque<>();
+        private final int size;
+
+        KeyWindow(int size) {
+            this.size = size;
+        }
+
+        void add(Keys keys) {
+            this.chunks.addFirst(keys);
+            if (this.chunks.size() > this.size) this.chunks.removeLast();
+        }
+
+        Integer get(Function<Keys, Map<String, Integer>> kind, String key) {
+            Integer id = null;
+            Iterator<Keys> chunk = this.chunks.iterator();
+            while (id == null && chunk.hasNext()) id = kind.apply(chunk.next()).get(key);
+            return id;
+        }
+    }
+
+    private static class ImportRow {
+        private final long line;
+        private final Map<String, Object> fields;
+        private final String error;
+
+        ImportRow(long line, Map<String, Object> fields, String error) {
+            this.line = line;
+            this.fields = fields;
+            this.error = error;
+        }
+
+        boolean has(String column) {
+            return this.fields.get(column) != null;
+        }
+
+        String get(String column) {
+            Object value = this.fields.get(column);
+            return value == null ? null : value.toString();
+        }
+    }
+
+    private static class PreparedRow {
+        private final ImportRow row;
+        private final Object dto;
+        private String error;
+
+        PreparedRow(ImportRow row, Object dto, String error) {
+            this.row = row;
+            this.dto = dto;
+            this.error = error;
+        }
+    }
+
+    private interface RowReader {
+        // the next row, or null at the end of the body
+        ImportRow next() throws IOException;
+    }
+
+    /*
+     * One JSON object per line; blank lines are skipped.
+     */
+    private static class NdjsonRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private final ObjectMapper mapper;
+        private long line = 0;
+
+        NdjsonRowReader(BufferedReader reader, ObjectMapper mapper) {
+            this.reader = reader;
+            this.mapper = mapper;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public ImportRow next() throws IOException {
+            String text;
+            do {
+                text = this.reader.readLine();
+                if (text == null) return null;
+                this.line++;
+            } while (text.isBlank());
+
+            try {
+                return new ImportRow(this.line, this.mapper.readValue(text, LinkedHashMap.class), null);
+            } catch (JsonProcessingException e) {
+                return new ImportRow(this.line, Collections.emptyMap(), "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /*
+     * RFC 4180 CSV with a header row naming the columns. Quoted values may
+     * contain commas, doubled quotes and line breaks; empty values are
+     * treated as absent.
+     */
+    private static class CsvRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private String[] header;
+        private long line = 0;
+
+        CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            if (this.header == null) {
+                List<String> columns = readRecord();
+                if (columns == null) return null;
+                this.header = columns.stream().map(String::trim).toArray(String[]::new);
+            }
+
+            List<String> values;
+            long start;
+            do {
+                start = this.line + 1;
+                values = readRecord();
+                if (values == null) return null;
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            if (values.size() != this.header.length) {
+                return new ImportRow(start, Collections.emptyMap(), "Expected " + this.header.length + " columns but found " + values.size());
+            }
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (int i = 0; i < this.header.length; i++) {
+                if (!values.get(i).isEmpty()) fields.put(this.header[i], values.get(i));
+            }
+            return new ImportRow(start, fields, null);
+        }
+
+        private List<String> readRecord() throws IOException {
+            String text = this.reader.readLine();
+            if (text == null) return null;
+            this.line++;
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) break;
+                    // quoted value spanning lines
+                    text = this.reader.readLine();
+                    if (text == null) break;
+                    this.line++;
+                    value.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c != '"') value.append(c);
+                    else if (i < text.length() && text.charAt(i) == '"') {
+                        value.append('"');
+                        i++;
+                    } else quoted = false;
+                } else if (c == '"') quoted = true;
+                else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else value.append(c);
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
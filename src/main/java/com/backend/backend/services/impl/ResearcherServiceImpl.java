@@ -1,25 +1,37 @@
 package com.backend.backend.services.impl;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.backend.backend.entities.Article;
-import com.backend.backend.entities.Author;
 import com.backend.backend.entities.Researcher;
+import com.backend.backend.payloads.ArticleView;
 import com.backend.backend.payloads.ResearcherDTO;
+import com.backend.backend.payloads.ResearcherView;
+import com.backend.backend.payloads.VersionStamp;
 import com.backend.backend.repositories.AuthorRepo;
 import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.search.ResearcherSearchIndex;
 import com.backend.backend.services.ResearcherService;
+import com.backend.backend.statistics.PublicationStatistics;
+import com.backend.backend.statistics.PublicationStatistics.Counter;
 import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.BatchResponse;
+import com.backend.backend.utils.Cursor;
+import com.backend.backend.utils.CursorPage;
+import com.backend.backend.utils.ResourceVersion;
+import com.backend.backend.utils.SliceResponse;
 import com.backend.backend.utils.Transformations;
 
 import jakarta.persistence.PersistenceException;
@@ -33,6 +45,12 @@ public class ResearcherServiceImpl implements ResearcherService{
     @Autowired
     private AuthorRepo authorRepo;
 
+    @Autowired
+    private ResearcherSearchIndex researcherSearchIndex;
+
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
     /**
      * Method to create a new Researcher
      * 
@@ -50,6 +68,8 @@ public class ResearcherServiceImpl implements ResearcherService{
             Researcher researcherEntity = Transformations.dtoToResearcher(researcherDTO);
 
             this.researcherRepo.save(researcherEntity);
+            this.researcherSearchIndex.put(researcherEntity);
+            this.publicationStatistics.add(Counter.PAPERS_PER_RESEARCHER, researcherEntity.getId(), 0);
 
             return new ApiResponse("Researcher created successfully", true, researcherEntity, HttpStatus.CREATED);
 
@@ -90,6 +110,7 @@ public class ResearcherServiceImpl implements ResearcherService{
             researcherEntity.setUniversity(researcher.getUniversity());
 
             this.researcherRepo.save(researcherEntity);
+            this.researcherSearchIndex.put(researcherEntity);
 
             return new ApiResponse("Researcher updated successfully", true, researcherEntity, HttpStatus.OK);
 
@@ -112,14 +133,15 @@ public class ResearcherServiceImpl implements ResearcherService{
      * 
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getResearcherByID(Integer id) {
         if (id == null) return new ApiResponse("ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
         
         try {
-            Optional<Researcher> optionalResearcher = this.researcherRepo.findById(id);
+            Optional<ResearcherView> optionalResearcher = this.researcherRepo.findViewById(id);
             if (!optionalResearcher.isPresent()) return new ApiResponse("Researcher not found", false, null, HttpStatus.BAD_REQUEST);
 
-            Researcher researcher = optionalResearcher.get();
+            ResearcherView researcher = optionalResearcher.get();
 
             return new ApiResponse("Researcher found", true, researcher, HttpStatus.OK);
             
@@ -132,6 +154,35 @@ public class ResearcherServiceImpl implements ResearcherService{
         }
     }
 
+    /**
+     * Method to get several researchers by their ids with one query per chunk of ids
+     *
+     * @param ids List of Integer with the ids of the researchers
+     *
+     * @return ApiResponse object with the researchers found, in the order of the ids, and the ids not found
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getResearchersByIDs(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) return new ApiResponse("Researcher ids cannot be empty", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.size() > BatchResponse.MAX_IDS) return new ApiResponse("Cannot get more than " + BatchResponse.MAX_IDS + " researchers at once", false, null, HttpStatus.BAD_REQUEST);
+        if (ids.stream().anyMatch(Objects::isNull)) return new ApiResponse("Researcher ids cannot contain null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            BatchResponse<ResearcherView> researchers = BatchResponse.of(ids, this.researcherRepo::findViewsByIdIn, ResearcherView::id);
+
+            return new ApiResponse("Researchers retrieved successfully", true, researchers, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving researchers: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving researchers: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving researchers: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Method to delete a Researcher by its ID
      * 
@@ -153,6 +204,8 @@ public class ResearcherServiceImpl implements ResearcherService{
             Researcher researcherEntity = optionalResearcher.get();
 
             this.researcherRepo.delete(researcherEntity);
+            this.researcherSearchIndex.remove(researcherEntity.getId());
+            this.publicationStatistics.remove(Counter.PAPERS_PER_RESEARCHER, researcherEntity.getId());
 
             return new ApiResponse("Researcher deleted successfully", true, null, HttpStatus.OK);
         } catch (DataIntegrityViolationException e) {
@@ -174,17 +227,18 @@ public class ResearcherServiceImpl implements ResearcherService{
      * 
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getAllResearchersPaginated(Integer page, Integer size) {
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
-            Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Researcher> researcherPage = this.researcherRepo.findAll(pageable);
+            Pageable pageable = allResearchersPage(page, size);
+            Page<ResearcherView> researcherPage = this.researcherRepo.findViewsBy(pageable);
 
             if (researcherPage.isEmpty()) return new ApiResponse("No researchers found", true, null, HttpStatus.NOT_FOUND);
 
-            List<Researcher> researchers = researcherPage.getContent();
+            List<ResearcherView> researchers = researcherPage.getContent();
 
             return new ApiResponse("Researchers retrieved successfully", true, researchers, HttpStatus.OK);
             
@@ -197,29 +251,142 @@ public class ResearcherServiceImpl implements ResearcherService{
         }
     }
 
+    /**
+     * Method to get all Researchers using keyset pagination
+     * 
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     * 
+     * @return ApiResponse object with the result of the operation
+     * 
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getAllResearchersByCursor(String after, Integer size) {
+        if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
+        if (size < 1) return new ApiResponse("Size must be greater than 0", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            int afterId = Cursor.decodeId(after);
+            List<ResearcherView> researchers = this.researcherRepo.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size + 1));
+
+            if (researchers.isEmpty()) return new ApiResponse("No researchers found", true, null, HttpStatus.NOT_FOUND);
+
+            CursorPage<ResearcherView> researcherPage = CursorPage.of(researchers, size, r -> Cursor.encode(r.id()));
+
+            return new ApiResponse("Researchers retrieved successfully", true, researcherPage, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse("Invalid pagination parameters: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving researchers: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving researchers: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving researchers: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the version of a researcher, read before getByID to answer conditional requests
+     *
+     * @param id Integer with the ID of the researcher
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the researcher, null when it does not exist or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getResearcherVersion(Integer id) {
+        if (id == null) return null;
+
+        try {
+            return this.researcherRepo.findVersionById(id).map(v -> ResourceVersion.of("researcher", v)).orElse(null);
+        } catch (Exception e) {
+            // no validators, the request takes the normal path and reports the error
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a page of researchers, read before getAll to answer conditional requests
+     *
+     * @param page Integer with the page number
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllResearchersVersion(Integer page, Integer size) {
+        if (page == null || size == null) return null;
+
+        try {
+            List<VersionStamp> versions = this.researcherRepo.findVersionsBy(allResearchersPage(page, size));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("researchers", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the version of a keyset page of researchers, read before getAll to answer conditional requests
+     *
+     * @param after String with the cursor of the previous page (null or empty for the first page)
+     * @param size Integer with the size of the page
+     *
+     * @return ResourceVersion with the ETag and Last-Modified of the page, null when it is empty or cannot be read
+     *
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllResearchersVersionByCursor(String after, Integer size) {
+        if (size == null || size < 1) return null;
+
+        try {
+            // size + 1 rows, as the extra row decides the next cursor of the page
+            List<VersionStamp> versions = this.researcherRepo.findVersionsByIdGreaterThanOrderByIdAsc(Cursor.decodeId(after), PageRequest.of(0, size + 1));
+
+            return versions.isEmpty() ? null : ResourceVersion.of("researchers:cursor", versions);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * Method to get Researchers by name
      * 
      * @param name String with the name of the Researcher
      * @param page Integer with the page number
      * @param size Integer with the size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse object with the result of the operation
      * 
      */
     @Override
-    public ApiResponse getResearchersByNamePaginated(String name, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getResearchersByNamePaginated(String name, Integer page, Integer size, Boolean withTotal) {
         if (name == null) return new ApiResponse("Name cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
+            ApiResponse indexedResponse = this.searchIndex(ResearcherSearchIndex.Field.NAME, name, page, size, withTotal);
+            if (indexedResponse != null) return indexedResponse;
+
             Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Researcher> researcherPage = this.researcherRepo.findByNameContaining(name, pageable);
+            Slice<ResearcherView> researcherPage = Boolean.FALSE.equals(withTotal)
+                ? this.researcherRepo.findSliceByNameContaining(name, pageable)
+                : this.researcherRepo.findByNameContaining(name, pageable);
             
             if (researcherPage.isEmpty()) return new ApiResponse("No researchers found", true, null, HttpStatus.NOT_FOUND);
 
-            List<Researcher> researchers = researcherPage.getContent();
+            List<ResearcherView> researchers = researcherPage.getContent();
+
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Researchers retrieved successfully", true, new SliceResponse<>(researchers, researcherPage.hasNext()), HttpStatus.OK);
 
             return new ApiResponse("Researchers retrieved successfully", true, researchers, HttpStatus.OK);
             
@@ -238,23 +405,32 @@ public class ResearcherServiceImpl implements ResearcherService{
      * @param surname String with the surname of the Researcher
      * @param page Integer with the page number
      * @param size Integer with the size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse object with the result of the operation
      * 
      */
     @Override
-    public ApiResponse getResearchersBySurnamePaginated(String surname, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getResearchersBySurnamePaginated(String surname, Integer page, Integer size, Boolean withTotal) {
         if (surname == null) return new ApiResponse("Surname cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
+            ApiResponse indexedResponse = this.searchIndex(ResearcherSearchIndex.Field.SURNAME, surname, page, size, withTotal);
+            if (indexedResponse != null) return indexedResponse;
+
             Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Researcher> researcherPage = this.researcherRepo.findBySurnameContaining(surname, pageable);
+            Slice<ResearcherView> researcherPage = Boolean.FALSE.equals(withTotal)
+                ? this.researcherRepo.findSliceBySurnameContaining(surname, pageable)
+                : this.researcherRepo.findBySurnameContaining(surname, pageable);
             
             if (researcherPage.isEmpty()) return new ApiResponse("No researchers found", true, null, HttpStatus.NOT_FOUND);
 
-            List<Researcher> researchers = researcherPage.getContent();
+            List<ResearcherView> researchers = researcherPage.getContent();
+
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Researchers retrieved successfully", true, new SliceResponse<>(researchers, researcherPage.hasNext()), HttpStatus.OK);
 
             return new ApiResponse("Researchers retrieved successfully", true, researchers, HttpStatus.OK);
 
@@ -273,23 +449,32 @@ public class ResearcherServiceImpl implements ResearcherService{
      * @param secSurname String with the second surname of the Researcher
      * @param page Integer with the page number
      * @param size Integer with the size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse object with the result of the operation
      * 
      */
     @Override
-    public ApiResponse getResearchersBySecSurnamePaginated(String secSurname, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getResearchersBySecSurnamePaginated(String secSurname, Integer page, Integer size, Boolean withTotal) {
         if (secSurname == null) return new ApiResponse("Second surname cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
+            ApiResponse indexedResponse = this.searchIndex(ResearcherSearchIndex.Field.SEC_SURNAME, secSurname, page, size, withTotal);
+            if (indexedResponse != null) return indexedResponse;
+
             Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Researcher> researcherPage = this.researcherRepo.findBySecSurnameContaining(secSurname, pageable);
+            Slice<ResearcherView> researcherPage = Boolean.FALSE.equals(withTotal)
+                ? this.researcherRepo.findSliceBySecSurnameContaining(secSurname, pageable)
+                : this.researcherRepo.findBySecSurnameContaining(secSurname, pageable);
 
             if (researcherPage.isEmpty()) return new ApiResponse("No researchers found", true, null, HttpStatus.NOT_FOUND);
 
-            List<Researcher> researchers = researcherPage.getContent();
+            List<ResearcherView> researchers = researcherPage.getContent();
+
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Researchers retrieved successfully", true, new SliceResponse<>(researchers, researcherPage.hasNext()), HttpStatus.OK);
 
             return new ApiResponse("Researchers retrieved successfully", true, researchers, HttpStatus.OK);
 
@@ -308,23 +493,32 @@ public class ResearcherServiceImpl implements ResearcherService{
      * @param university String with the university of the Researcher
      * @param page Integer with the page number
      * @param size Integer with the size of the page
+     * @param withTotal Boolean, when false the total count is skipped and only hasNext is reported
      * 
      * @return ApiResponse object with the result of the operation
      * 
      */
     @Override
-    public ApiResponse getResearchersByUniversityPaginated(String university, Integer page, Integer size) {
+    @Transactional(readOnly = true)
+    public ApiResponse getResearchersByUniversityPaginated(String university, Integer page, Integer size, Boolean withTotal) {
         if (university == null) return new ApiResponse("University cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (page == null) return new ApiResponse("Page cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (size == null) return new ApiResponse("Size cannot be null", false, null, HttpStatus.BAD_REQUEST);
 
         try {
+            ApiResponse indexedResponse = this.searchIndex(ResearcherSearchIndex.Field.UNIVERSITY, university, page, size, withTotal);
+            if (indexedResponse != null) return indexedResponse;
+
             Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Researcher> researcherPage = this.researcherRepo.findByUniversityContaining(university, pageable);
+            Slice<ResearcherView> researcherPage = Boolean.FALSE.equals(withTotal)
+                ? this.researcherRepo.findSliceByUniversityContaining(university, pageable)
+                : this.researcherRepo.findByUniversityContaining(university, pageable);
             
             if (researcherPage.isEmpty()) return new ApiResponse("No researchers found", true, null, HttpStatus.NOT_FOUND);
 
-            List<Researcher> researchers = researcherPage.getContent();
+            List<ResearcherView> researchers = researcherPage.getContent();
+
+            if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Researchers retrieved successfully", true, new SliceResponse<>(researchers, researcherPage.hasNext()), HttpStatus.OK);
 
             return new ApiResponse("Researchers retrieved successfully", true, researchers, HttpStatus.OK);
 
@@ -337,6 +531,23 @@ public class ResearcherServiceImpl implements ResearcherService{
         }
     }
     
+    /*
+     * Answers a "containing" search from the in-memory trigram index, with
+     * the same response shapes as the database path. Returns null while the
+     * index is not ready so the caller falls back to the repository finder.
+     */
+    private ApiResponse searchIndex(ResearcherSearchIndex.Field field, String keyword, Integer page, Integer size, Boolean withTotal) {
+        if (!this.researcherSearchIndex.isReady()) return null;
+
+        SliceResponse<ResearcherView> researcherSlice = this.researcherSearchIndex.search(field, keyword, page - 1, size);
+
+        if (researcherSlice.getContent().isEmpty()) return new ApiResponse("No researchers found", true, null, HttpStatus.NOT_FOUND);
+
+        if (Boolean.FALSE.equals(withTotal)) return new ApiResponse("Researchers retrieved successfully", true, researcherSlice, HttpStatus.OK);
+
+        return new ApiResponse("Researchers retrieved successfully", true, researcherSlice.getContent(), HttpStatus.OK);
+    }
+
     /**
      * Method to get all articles from a researcher by its complete name
      * 
@@ -345,6 +556,7 @@ public class ResearcherServiceImpl implements ResearcherService{
      * @param secSurname String with the second surname of the Researcher
      */
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse getArticlesFromResearcherByCompleteName(String name, String surname, String secSurname) {
         if (name == null) return new ApiResponse("Name cannot be null", false, null, HttpStatus.BAD_REQUEST);
         if (surname == null) return new ApiResponse("Surname cannot be null", false, null, HttpStatus.BAD_REQUEST);
@@ -364,11 +576,13 @@ public class ResearcherServiceImpl implements ResearcherService{
                 return new ApiResponse("Error creating researcher: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
             }
 
+            if (!optionalResearcher.isPresent()) return new ApiResponse("Researcher not found", false, null, HttpStatus.NOT_FOUND);
+
             Researcher researcher = optionalResearcher.get();
-            List<Author> authors = null;
+            List<ArticleView> articles = null;
 
             try {
-                authors = this.authorRepo.findByResearcher(researcher);   
+                articles = this.authorRepo.findArticleViewsByResearcherId(researcher.getId());
             } catch (DataIntegrityViolationException e) {
                 return new ApiResponse("Error creating researcher: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
             } catch (PersistenceException e) {
@@ -376,8 +590,6 @@ public class ResearcherServiceImpl implements ResearcherService{
             } catch (Exception e) {
                 return new ApiResponse("Error creating researcher: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
             }
-            
-            List<Article> articles = authors.stream().map(a -> a.getArticle()).collect(Collectors.toList());
 
             if (articles.isEmpty()) {
                 return new ApiResponse("No articles found", true, null, HttpStatus.NOT_FOUND);
@@ -393,4 +605,10 @@ public class ResearcherServiceImpl implements ResearcherService{
             return new ApiResponse("Error creating researcher: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
         }
     }
+
+    // the 1-based page of getAll in id order, shared with its version so the ETag covers the rows returned
+    private static Pageable allResearchersPage(Integer page, Integer size) {
+        return PageRequest.of(page - 1, size, Sort.by("id"));
+    }
+
 }
@@ -0,0 +1,223 @@
+package com.backend.backend.services.impl;
+
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.backend.backend.payloads.IdCount;
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.repositories.AuthorRepo;
+import com.backend.backend.repositories.ConferenceRepo;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.services.StatisticsService;
+import com.backend.backend.statistics.PublicationStatistics;
+import com.backend.backend.statistics.PublicationStatistics.Counter;
+import com.backend.backend.utils.ApiResponse;
+
+import jakarta.persistence.PersistenceException;
+
+/*
+ * Reads of the statistics counters. Once PublicationStatistics is built
+ * they never touch the database, which is why these reads are not
+ * @Transactional like the other services' reads: a transaction would take
+ * a pooled connection for nothing. Before the first build they count in
+ * the database instead.
+ */
+@Service
+public class StatisticsServiceImpl implements StatisticsService {
+
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    @Autowired
+    private ArticleRepo articleRepo;
+
+    /**
+     * Method to get the number of papers (author links) of a researcher
+     *
+     * @param id Integer with the ID of the Researcher
+     *
+     * @return ApiResponse object with the id and its count
+     */
+    @Override
+    public ApiResponse getPapersByResearcher(Integer id) {
+        if (id == null) return new ApiResponse("Researcher ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            Long count;
+            if (this.publicationStatistics.isReady()) {
+                Integer counted = this.publicationStatistics.get(Counter.PAPERS_PER_RESEARCHER, id);
+                count = counted == null ? null : counted.longValue();
+            } else {
+                count = this.researcherRepo.existsById(id) ? this.authorRepo.countByResearcherId(id) : null;
+            }
+
+            if (count == null) return new ApiResponse("Researcher not found", false, null, HttpStatus.NOT_FOUND);
+
+            return new ApiResponse("Papers of the researcher retrieved successfully", true, new IdCount(id, count), HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving statistics: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving statistics: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving statistics: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the number of papers of an edition
+     *
+     * @param id Integer with the ID of the Edition
+     *
+     * @return ApiResponse object with the id and its count
+     */
+    @Override
+    public ApiResponse getPapersByEdition(Integer id) {
+        if (id == null) return new ApiResponse("Edition ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            Long count;
+            if (this.publicationStatistics.isReady()) {
+                Integer counted = this.publicationStatistics.get(Counter.PAPERS_PER_EDITION, id);
+                count = counted == null ? null : counted.longValue();
+            } else {
+                count = this.editionRepo.existsById(id) ? this.articleRepo.countByEditionId(id) : null;
+            }
+
+            if (count == null) return new ApiResponse("Edition not found", false, null, HttpStatus.NOT_FOUND);
+
+            return new ApiResponse("Papers of the edition retrieved successfully", true, new IdCount(id, count), HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving statistics: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving statistics: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving statistics: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the number of editions of a conference
+     *
+     * @param id Integer with the ID of the Conference
+     *
+     * @return ApiResponse object with the id and its count
+     */
+    @Override
+    public ApiResponse getEditionsByConference(Integer id) {
+        if (id == null) return new ApiResponse("Conference ID cannot be null", false, null, HttpStatus.BAD_REQUEST);
+
+        try {
+            Long count;
+            if (this.publicationStatistics.isReady()) {
+                Integer counted = this.publicationStatistics.get(Counter.EDITIONS_PER_CONFERENCE, id);
+                count = counted == null ? null : counted.longValue();
+            } else {
+                count = this.conferenceRepo.existsById(id) ? this.editionRepo.countByConferenceId(id) : null;
+            }
+
+            if (count == null) return new ApiResponse("Conference not found", false, null, HttpStatus.NOT_FOUND);
+
+            return new ApiResponse("Editions of the conference retrieved successfully", true, new IdCount(id, count), HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving statistics: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving statistics: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving statistics: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Method to get the number of papers of every researcher
+     *
+     * @return ApiResponse object with the counts by researcher id
+     */
+    @Override
+    public ApiResponse getAllPapersByResearcher() {
+        return getAll(Counter.PAPERS_PER_RESEARCHER, "Papers per researcher retrieved successfully");
+    }
+
+    /**
+     * Method to get the number of papers of every edition
+     *
+     * @return ApiResponse object with the counts by edition id
+     */
+    @Override
+    public ApiResponse getAllPapersByEdition() {
+        return getAll(Counter.PAPERS_PER_EDITION, "Papers per edition retrieved successfully");
+    }
+
+    /**
+     * Method to get the number of editions of every conference
+     *
+     * @return ApiResponse object with the counts by conference id
+     */
+    @Override
+    public ApiResponse getAllEditionsByConference() {
+        return getAll(Counter.EDITIONS_PER_CONFERENCE, "Editions per conference retrieved successfully");
+    }
+
+    /**
+     * Method to recount every statistic in the database, repairing the
+     * counts that drifted
+     *
+     * @return ApiResponse object with the result of the operation
+     */
+    @Override
+    public ApiResponse rebuildStatistics() {
+        if (!this.publicationStatistics.rebuild()) return new ApiResponse("Statistics rebuild failed", false, null, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        return new ApiResponse("Statistics rebuilt successfully", true, null, HttpStatus.OK);
+    }
+
+    private ApiResponse getAll(Counter counter, String message) {
+        try {
+            SortedMap<Integer, Integer> counts;
+            if (this.publicationStatistics.isReady()) {
+                counts = this.publicationStatistics.getAll(counter);
+            } else {
+                counts = new TreeMap<>();
+                for (IdCount idCount : count(counter)) counts.put(idCount.id(), (int) idCount.count());
+            }
+
+            return new ApiResponse(message, true, counts, HttpStatus.OK);
+
+        } catch (DataIntegrityViolationException e) {
+            return new ApiResponse("Error retrieving statistics: Data integrity violation", false, null, HttpStatus.BAD_REQUEST);
+        } catch (PersistenceException e) {
+            return new ApiResponse("Error retrieving statistics: Persistence error", false, null, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ApiResponse("Error retrieving statistics: " + e.getMessage(), false, null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private List<IdCount> count(Counter counter) {
+        return switch (counter) {
+            case PAPERS_PER_RESEARCHER -> this.researcherRepo.countPapersPerResearcher();
+            case PAPERS_PER_EDITION -> this.editionRepo.countPapersPerEdition();
+            case EDITIONS_PER_CONFERENCE -> this.conferenceRepo.countEditionsPerConference();
+        };
+    }
+}
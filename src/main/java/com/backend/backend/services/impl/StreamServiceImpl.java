@@ -0,0 +1,184 @@
+package com.backend.backend.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.backend.payloads.ConferenceView;
+import com.backend.backend.payloads.EditionView;
+import com.backend.backend.payloads.ResearcherView;
+import com.backend.backend.repositories.ConferenceRepo;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.services.StreamService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+/*
+ * Streams the read-only Edition, Conference and Researcher queries as
+ * NDJSON, one view per line, instead of building a page in memory. Rows
+ * are read in keyset pages of PAGE_SIZE, each in its own short read-only
+ * transaction, and every page is flushed before the next one is read, so
+ * clients start consuming early. The writes block while the client is not
+ * reading, but no connection is held meanwhile: a slow client costs its
+ * stream thread and one page of rows, not a JDBC connection.
+ *
+ * Pages are separate snapshots; a row changed while a stream runs is sent
+ * as it was when its page was read, and each row is sent at most once.
+ */
+@Service
+public class StreamServiceImpl implements StreamService {
+
+    private static final int PAGE_SIZE = 500;
+    private static final Pageable PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Method to stream the editions of a year as NDJSON
+     *
+     * @param year Integer with the year of the editions
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    public long streamEditionsByYear(Integer year, OutputStream out) throws IOException {
+        return write((EditionView last) -> this.editionRepo.findByYearAndIdGreaterThanOrderByIdAsc(year, last == null ? Integer.MIN_VALUE : last.id(), PAGE), out);
+    }
+
+    /**
+     * Method to stream the editions between two years as NDJSON, ordered by year
+     *
+     * @param startYear Integer with the first year
+     * @param endYear Integer with the last year
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    public long streamEditionsBetweenYears(Integer startYear, Integer endYear, OutputStream out) throws IOException {
+        return write((EditionView last) -> last == null
+            ? this.editionRepo.findByYearBetweenAfter(startYear, endYear, startYear, Integer.MIN_VALUE, PAGE)
+            : this.editionRepo.findByYearBetweenAfter(startYear, endYear, last.year(), last.id(), PAGE), out);
+    }
+
+    /**
+     * Method to stream the editions whose city contains a keyword as NDJSON
+     *
+     * @param city String with the keyword
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    public long streamEditionsByCity(String city, OutputStream out) throws IOException {
+        return write((EditionView last) -> this.editionRepo.findByCityContainingAndIdGreaterThanOrderByIdAsc(city, last == null ? Integer.MIN_VALUE : last.id(), PAGE), out);
+    }
+
+    /**
+     * Method to stream every conference as NDJSON
+     *
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    public long streamConferences(OutputStream out) throws IOException {
+        return write((ConferenceView last) -> this.conferenceRepo.findByIdGreaterThanOrderByIdAsc(last == null ? Integer.MIN_VALUE : last.id(), PAGE), out);
+    }
+
+    /**
+     * Method to stream the conferences whose name contains a keyword as NDJSON
+     *
+     * @param name String with the keyword
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    public long streamConferencesByName(String name, OutputStream out) throws IOException {
+        return write((ConferenceView last) -> this.conferenceRepo.findByNameContainingAndIdGreaterThanOrderByIdAsc(name, last == null ? Integer.MIN_VALUE : last.id(), PAGE), out);
+    }
+
+    /**
+     * Method to stream the researchers whose name contains a keyword as NDJSON
+     *
+     * @param name String with the keyword
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    public long streamResearchersByName(String name, OutputStream out) throws IOException {
+        return write((ResearcherView last) -> this.researcherRepo.findByNameContainingAndIdGreaterThanOrderByIdAsc(name, last == null ? Integer.MIN_VALUE : last.id(), PAGE), out);
+    }
+
+    /**
+     * Method to stream the researchers whose university contains a keyword as NDJSON
+     *
+     * @param university String with the keyword
+     * @param out OutputStream where the rows are written, left open
+     *
+     * @return the number of rows written
+     */
+    @Override
+    public long streamResearchersByUniversity(String university, OutputStream out) throws IOException {
+        return write((ResearcherView last) -> this.researcherRepo.findByUniversityContainingAndIdGreaterThanOrderByIdAsc(university, last == null ? Integer.MIN_VALUE : last.id(), PAGE), out);
+    }
+
+    // the next page of rows after the last one written, or the first page when last is null
+    private interface Pages<T> {
+        List<T> after(T last);
+    }
+
+    private <T> long write(Pages<T> pages, OutputStream out) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(this.transactionManager);
+        readOnly.setReadOnly(true);
+
+        long count = 0;
+        try (JsonGenerator generator = this.objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            SequenceWriter writer = this.objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(generator);
+
+            T last = null;
+            List<T> page;
+            do {
+                T after = last;
+                page = readOnly.execute(status -> pages.after(after));
+                for (T row : page) writer.write(row);
+                count += page.size();
+                if (!page.isEmpty()) last = page.get(page.size() - 1);
+                // written outside the transaction, so a slow client does not hold the connection
+                generator.flush();
+            } while (page.size() == PAGE_SIZE);
+            if (count > 0) generator.writeRaw('\n');
+        }
+        return count;
+    }
+}
@@ -0,0 +1,198 @@
+package com.backend.backend.statistics;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.backend.backend.payloads.IdCount;
+import com.backend.backend.repositories.ConferenceRepo;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.utils.RebuildableSnapshot;
+
+/*
+ * In-memory counters behind the statistics endpoints: the papers (author
+ * links) of every researcher, the papers of every edition and the
+ * editions of every conference. Reading one count is a hash lookup.
+ *
+ * The counters are built from grouped count queries once the application
+ * is ready, and kept current by the services: after a create, update or
+ * delete is saved, they apply its delta here. Entities without papers
+ * or editions have a zero count, so an unknown id means the entity does
+ * not exist. Until the first build finishes isReady() is false and
+ * callers count in the database.
+ *
+ * Writes that skip the services (SQL by hand, another instance) make the
+ * counters drift, so they are rebuilt on statistics.rebuild.cron and on
+ * demand. A rebuild does not block reads or deltas: the deltas applied
+ * while its queries run are added to the fresh counts before they
+ * replace the current ones. A write that commits just before the queries
+ * read the table, but applies its delta after the rebuild has started, is
+ * counted twice until the next rebuild. Deltas take the read lock, so
+ * many apply at once, and only the start and the swap of a rebuild
+ * (RebuildableSnapshot) stop them.
+ */
+@Component
+public class PublicationStatistics extends RebuildableSnapshot<Map<PublicationStatistics.Counter, List<IdCount>>> {
+
+    public enum Counter {
+        PAPERS_PER_RESEARCHER, PAPERS_PER_EDITION, EDITIONS_PER_CONFERENCE
+    }
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Value("${statistics.enabled:true}")
+    private boolean enabled;
+
+    // id -> count, one map per counter; replaced as a whole by a rebuild, so reads need no lock
+    private volatile Map<Counter, ConcurrentHashMap<Integer, Integer>> counts = new EnumMap<>(Counter.class);
+
+    // deltas and removed ids seen while a rebuild runs, replayed on its fresh counts
+    private final Map<Counter, ConcurrentHashMap<Integer, Integer>> pendingDeltas = new EnumMap<>(Counter.class);
+    private final Map<Counter, Set<Integer>> pendingRemovals = new EnumMap<>(Counter.class);
+
+    public PublicationStatistics() {
+        super("Statistics", "statistics-builder");
+        for (Counter counter : Counter.values()) {
+            counts.put(counter, new ConcurrentHashMap<>());
+            pendingDeltas.put(counter, new ConcurrentHashMap<>());
+            pendingRemovals.put(counter, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Scheduled(cron = "${statistics.rebuild.cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) rebuild();
+    }
+
+    @Override
+    protected void startBuild() {
+        pendingDeltas.values().forEach(Map::clear);
+        pendingRemovals.values().forEach(Set::clear);
+    }
+
+    // the three counts in the one transaction of the rebuild, so they come from one snapshot
+    @Override
+    protected Map<Counter, List<IdCount>> load() {
+        Map<Counter, List<IdCount>> counted = new EnumMap<>(Counter.class);
+        counted.put(Counter.PAPERS_PER_RESEARCHER, this.researcherRepo.countPapersPerResearcher());
+        counted.put(Counter.PAPERS_PER_EDITION, this.editionRepo.countPapersPerEdition());
+        counted.put(Counter.EDITIONS_PER_CONFERENCE, this.conferenceRepo.countEditionsPerConference());
+        return counted;
+    }
+
+    @Override
+    protected String install(Map<Counter, List<IdCount>> fresh) {
+        int repaired = 0;
+        Map<Counter, ConcurrentHashMap<Integer, Integer>> rebuiltCounts = new EnumMap<>(Counter.class);
+        for (Counter counter : Counter.values()) {
+            ConcurrentHashMap<Integer, Integer> rebuilt = new ConcurrentHashMap<>(fresh.get(counter).size() * 4 / 3 + 1);
+            for (IdCount idCount : fresh.get(counter)) rebuilt.put(idCount.id(), (int) idCount.count());
+            pendingDeltas.get(counter).forEach((id, delta) -> rebuilt.merge(id, delta, Integer::sum));
+            pendingRemovals.get(counter).forEach(rebuilt::remove);
+
+            if (isLoaded()) repaired += drift(counts.get(counter), rebuilt);
+            rebuiltCounts.put(counter, rebuilt);
+        }
+        counts = rebuiltCounts;
+        return repaired + " counts repaired";
+    }
+
+    private static int drift(Map<Integer, Integer> current, Map<Integer, Integer> rebuilt) {
+        int differences = 0;
+        for (Map.Entry<Integer, Integer> entry : rebuilt.entrySet()) {
+            if (!entry.getValue().equals(current.get(entry.getKey()))) differences++;
+        }
+        for (Integer id : current.keySet()) {
+            if (!rebuilt.containsKey(id)) differences++;
+        }
+        return differences;
+    }
+
+    /**
+     * The count of an id.
+     *
+     * @return the count, or null when the id is not counted (the entity does not exist)
+     */
+    public Integer get(Counter counter, int id) {
+        return counts.get(counter).get(id);
+    }
+
+    /**
+     * Every count of a counter, ordered by id.
+     */
+    public SortedMap<Integer, Integer> getAll(Counter counter) {
+        return new TreeMap<>(counts.get(counter));
+    }
+
+    /**
+     * Adds the delta to the count of an id, starting from zero for an id not
+     * counted yet. A delta of zero only registers the id.
+     */
+    public void add(Counter counter, int id, int delta) {
+        lock.readLock().lock();
+        try {
+            counts.get(counter).merge(id, delta, Integer::sum);
+            if (isBuilding()) pendingDeltas.get(counter).merge(id, delta, Integer::sum);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Moves one unit from the count of an id to another, e.g. an article
+     * updated into another edition. Does nothing when both are the same.
+     */
+    public void move(Counter counter, int from, int to) {
+        if (from == to) return;
+        add(counter, from, -1);
+        add(counter, to, 1);
+    }
+
+    /**
+     * Stops counting an id, once its entity is deleted.
+     */
+    public void remove(Counter counter, int id) {
+        lock.readLock().lock();
+        try {
+            counts.get(counter).remove(id);
+            if (isBuilding()) {
+                pendingDeltas.get(counter).remove(id);
+                pendingRemovals.get(counter).add(id);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the rows of a committed import: the new researchers, and one
+     * paper per article for its edition and per author link for its researcher.
+     */
+    public void imported(List<Integer> researcherIds, List<Integer> articleEditionIds, List<Integer> authorResearcherIds) {
+        researcherIds.forEach(id -> add(Counter.PAPERS_PER_RESEARCHER, id, 0));
+        articleEditionIds.forEach(id -> add(Counter.PAPERS_PER_EDITION, id, 1));
+        authorResearcherIds.forEach(id -> add(Counter.PAPERS_PER_RESEARCHER, id, 1));
+    }
+}
@@ -0,0 +1,55 @@
+package com.backend.backend.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Data of a multi-get response: the rows found, in the order their ids
+ * were requested, and the requested ids that do not exist.
+ */
+@Getter
+@AllArgsConstructor
+public class BatchResponse<T> {
+
+    // ids per IN list, well below the bind parameter limits of MySQL and H2
+    public static final int CHUNK_SIZE = 500;
+
+    // ids accepted in one request
+    public static final int MAX_IDS = 5000;
+
+    private List<T> content;
+    private List<Integer> missing;
+
+    /*
+     * Loads the rows of the given ids with one IN query per CHUNK_SIZE
+     * distinct ids. Duplicated ids are returned once, at their first
+     * position.
+     */
+    public static <T> BatchResponse<T> of(Collection<Integer> ids, Function<Collection<Integer>, List<T>> finder, ToIntFunction<T> idOf) {
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        Map<Integer, T> rowsById = new HashMap<>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            for (T row : finder.apply(chunk)) rowsById.put(idOf.applyAsInt(row), row);
+        }
+
+        List<T> content = new ArrayList<>(rowsById.size());
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : distinctIds) {
+            T row = rowsById.get(id);
+            if (row != null) content.add(row);
+            else missing.add(id);
+        }
+        return new BatchResponse<>(content, missing);
+    }
+}
@@ -0,0 +1,46 @@
+package com.backend.backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * Opaque cursor used by the keyset (seek) pagination mode. A cursor
+ * holds the sort keys of the last row of a page, e.g. the id, or the
+ * year and id for editions ordered by year. Keys are joined with ':'
+ * and Base64 (URL safe) encoded so clients treat them as a token.
+ * The last key may itself contain ':' (city names), so decode splits
+ * into a fixed number of parts.
+ */
+public class Cursor {
+
+    private static final String SEPARATOR = ":";
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) sb.append(SEPARATOR);
+            sb.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int parts) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] keys = raw.split(SEPARATOR, parts);
+        if (keys.length != parts) throw new IllegalArgumentException("Invalid cursor");
+        return keys;
+    }
+
+    public static boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    public static int decodeId(String cursor) {
+        if (isFirstPage(cursor)) return 0;
+        try {
+            return Integer.parseInt(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.backend.backend.utils;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Data of a keyset paginated response: the rows of the page and the
+ * cursor to pass as "after" to get the next one (null on the last page).
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private String nextCursor;
+
+    /*
+     * Builds a page from a query that fetched one row more than the
+     * requested size, so the presence of a next page is known without
+     * counting. The size must be at least 1, the services reject
+     * smaller ones with a 400.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (size < 1) throw new IllegalArgumentException("Size must be greater than 0");
+        if (rows.size() <= size) return new CursorPage<>(rows, null);
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(content, cursorOf.apply(content.get(size - 1)));
+    }
+}
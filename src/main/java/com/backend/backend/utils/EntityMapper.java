@@ -0,0 +1,73 @@
+package com.backend.backend.utils;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Author;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.entities.User;
+import com.backend.backend.payloads.ArticleDTO;
+import com.backend.backend.payloads.AuthorDTO;
+import com.backend.backend.payloads.ConferenceDTO;
+import com.backend.backend.payloads.EditionDTO;
+import com.backend.backend.payloads.ResearcherDTO;
+import com.backend.backend.payloads.UserDTO;
+
+/*
+ * DTO <-> entity mappings generated at compile time by MapStruct
+ * (EntityMapperImpl), plain getter/setter code with no reflection. Only
+ * used through the static methods of Transformations. The ref_* ids of
+ * the DTOs are not resolved here: the services load the referenced
+ * entities and set the associations themselves.
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+interface EntityMapper {
+
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    Researcher dtoToResearcher(ResearcherDTO rDto);
+
+    ResearcherDTO researcherToDTO(Researcher r);
+
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    Conference dtoToConference(ConferenceDTO cDto);
+
+    ConferenceDTO conferenceToDTO(Conference c);
+
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    @Mapping(target = "edition", ignore = true)
+    Article dtoToArticle(ArticleDTO aDto);
+
+    @Mapping(target = "ref_edition", source = "edition.id")
+    ArticleDTO articleToDTO(Article a);
+
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    @Mapping(target = "conference", ignore = true)
+    Edition dtoToEdition(EditionDTO eDto);
+
+    @Mapping(target = "ref_conference", source = "conference.id")
+    EditionDTO editionToDTO(Edition e);
+
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    @Mapping(target = "article", ignore = true)
+    @Mapping(target = "researcher", ignore = true)
+    Author dtoToAuthor(AuthorDTO aDto);
+
+    @Mapping(target = "ref_article", source = "article.id")
+    @Mapping(target = "ref_researcher", source = "researcher.id")
+    AuthorDTO authorToDTO(Author a);
+
+    @Mapping(target = "username", source = "email")
+    User dtoToUser(UserDTO userDto);
+
+    @Mapping(target = "email", source = "username")
+    UserDTO userToDTO(User user);
+}
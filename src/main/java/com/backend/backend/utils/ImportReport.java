@@ -0,0 +1,51 @@
+package com.backend.backend.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Data of a bulk import response: how many rows were read, imported and
+ * rejected, and the line number and reason of each rejected row. Only the
+ * first maxErrors rejections are kept so the report stays bounded whatever
+ * the size of the upload; errorsTruncated tells when some were dropped.
+ */
+@Getter
+public class ImportReport {
+
+    private long processed;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    @JsonIgnore
+    private final int maxErrors;
+
+    public ImportReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void imported(long rows) {
+        this.processed += rows;
+        this.imported += rows;
+    }
+
+    public void failed(long line, String message) {
+        this.processed++;
+        this.failed++;
+        if (this.errors.size() < this.maxErrors) this.errors.add(new RowError(line, message));
+        else this.errorsTruncated = true;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,151 @@
+package com.backend.backend.utils;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * Base of the in-memory structures that are loaded from the database,
+ * kept current by the services after each write and rebuilt from the
+ * database to repair the drift of writes that skip them.
+ *
+ * The first build runs on a background thread once the application is
+ * ready; until it finishes isReady() is false. A rebuild loads a fresh
+ * snapshot while reads and writes keep using the current state: while
+ * isBuilding() the subclass records the changes it applies, and install()
+ * replays them on the snapshot before the snapshot replaces the state.
+ * The load is one transaction, so it reads one consistent view. It is a
+ * read-write transaction on purpose: with read replicas a read-only one
+ * would run on a replica, and the changes committed on the primary within
+ * the replica lag before startBuild() would be missing from the snapshot
+ * without being among the recorded ones, so the rebuild would erase them.
+ *
+ * lock guards the state of the subclass; the start and the install of a
+ * rebuild hold its write lock. Rebuilds are serialized by a lock rather
+ * than synchronized, as the load holds it across JDBC calls and would pin
+ * a virtual thread.
+ */
+public abstract class RebuildableSnapshot<S> {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final String name;
+    private final String builderThread;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile boolean ready = false;
+    private volatile boolean building = false;
+
+    /**
+     * @param name what is built, for the log, e.g. "Co-authorship graph"
+     * @param builderThread the name of the startup build thread
+     */
+    protected RebuildableSnapshot(String name, String builderThread) {
+        this.name = name;
+        this.builderThread = builderThread;
+    }
+
+    protected abstract boolean isEnabled();
+
+    /**
+     * Reads the snapshot from the database, inside a transaction on the primary.
+     */
+    protected abstract S load();
+
+    /**
+     * Forgets the changes recorded for a previous rebuild, under the write lock.
+     */
+    protected abstract void startBuild();
+
+    /**
+     * Replays the changes recorded while building on the snapshot and makes
+     * it the current state, under the write lock.
+     *
+     * @return a summary of the snapshot for the log
+     */
+    protected abstract String install(S snapshot);
+
+    public boolean isReady() {
+        return isEnabled() && ready;
+    }
+
+    // whether a build has completed, also when disabled
+    protected boolean isLoaded() {
+        return ready;
+    }
+
+    protected boolean isBuilding() {
+        return building;
+    }
+
+    /**
+     * Marks the state ready after the subclass has loaded it without a
+     * rebuild, under the write lock.
+     */
+    protected void loaded() {
+        ready = true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!isEnabled()) return;
+        Thread builder = new Thread(this::rebuild, builderThread);
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Loads a fresh snapshot from the database and replaces the current
+     * state with it. Reads keep using the current state while it runs.
+     *
+     * @return whether the rebuild succeeded
+     */
+    public boolean rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                building = true;
+                startBuild();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                long start = System.currentTimeMillis();
+                S snapshot = new TransactionTemplate(this.transactionManager).execute(status -> load());
+
+                String summary;
+                lock.writeLock().lock();
+                try {
+                    summary = install(snapshot);
+                    building = false;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("{} built in {} ms, {}", name, System.currentTimeMillis() - start, summary);
+                return true;
+            } catch (Exception e) {
+                building = false;
+                log.warn("{} build failed, {}", name, ready ? "keeping the current one" : "it stays unavailable until the next rebuild", e);
+                return false;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
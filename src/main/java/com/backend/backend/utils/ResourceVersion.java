@@ -0,0 +1,58 @@
+package com.backend.backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+import com.backend.backend.payloads.VersionStamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Validators of a read endpoint response: a strong ETag and the
+ * Last-Modified time in epoch millis (-1 when unknown). The ETag hashes
+ * the name of the resource and the version stamps of the rows in it, so
+ * it changes whenever one of those rows, or one they are built from,
+ * is created, updated or deleted. Controllers hand both values to
+ * WebRequest.checkNotModified, which answers 304 before the body is read.
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    public static ResourceVersion of(String resource, VersionStamp stamp) {
+        return of(resource, List.of(stamp));
+    }
+
+    public static ResourceVersion of(String resource, Collection<VersionStamp> stamps) {
+        MessageDigest digest = sha256();
+        digest.update(resource.getBytes(StandardCharsets.UTF_8));
+
+        Instant lastModified = null;
+        for (VersionStamp stamp : stamps) {
+            digest.update((";" + stamp.id() + ":" + stamp.version()).getBytes(StandardCharsets.UTF_8));
+            if (stamp.lastModified() != null && (lastModified == null || stamp.lastModified().isAfter(lastModified))) {
+                lastModified = stamp.lastModified();
+            }
+        }
+
+        String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+        return new ResourceVersion(etag, lastModified == null ? -1 : lastModified.toEpochMilli());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
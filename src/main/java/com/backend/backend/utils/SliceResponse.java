@@ -0,0 +1,19 @@
+package com.backend.backend.utils;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Data of a paginated response requested without total (withTotal=false):
+ * the rows of the page and whether there is a next one. No count query
+ * is run to build it.
+ */
+@Getter
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private boolean hasNext;
+}
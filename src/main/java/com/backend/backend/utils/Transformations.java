@@ -1,7 +1,6 @@
 package com.backend.backend.utils;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.mapstruct.factory.Mappers;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.backend.backend.entities.Article;
@@ -19,60 +18,58 @@ import com.backend.backend.payloads.UserDTO;
 
 public class Transformations {
 
-    @Autowired
-    private static BCryptPasswordEncoder passwordEncoder;
+    private static final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-    @Autowired
-    private static ModelMapper modelMapper = new ModelMapper();
+    private static final EntityMapper mapper = Mappers.getMapper(EntityMapper.class);
     
     public static Researcher dtoToResearcher(ResearcherDTO rDto) {
-        return modelMapper.map(rDto, Researcher.class);
+        return mapper.dtoToResearcher(rDto);
     }
 
     public static ResearcherDTO researcherToDTO(Researcher r) {
-        return modelMapper.map(r, ResearcherDTO.class);
+        return mapper.researcherToDTO(r);
     }
 
     public static Conference dtoToConference(ConferenceDTO cDto) {
-        return modelMapper.map(cDto, Conference.class);
+        return mapper.dtoToConference(cDto);
     }
 
     public static ConferenceDTO conferenceToDTO(Conference c) {
-        return modelMapper.map(c, ConferenceDTO.class);
+        return mapper.conferenceToDTO(c);
     }
 
     public static Article dtoToArticle(ArticleDTO aDto) {
-        return modelMapper.map(aDto, Article.class);
+        return mapper.dtoToArticle(aDto);
     }
 
     public static ArticleDTO articleToDTO(Article a) {
-        return modelMapper.map(a, ArticleDTO.class);
+        return mapper.articleToDTO(a);
     }
 
     public static Edition dtoToEdition(EditionDTO eDto) {
-        return modelMapper.map(eDto, Edition.class);
+        return mapper.dtoToEdition(eDto);
     }
 
     public static EditionDTO editionToDTO(Edition e) {
-        return modelMapper.map(e, EditionDTO.class);
+        return mapper.editionToDTO(e);
     }
 
     public static Author dtoToAuthor(AuthorDTO aDto) {
-        return modelMapper.map(aDto, Author.class);
+        return mapper.dtoToAuthor(aDto);
     }
 
     public static AuthorDTO authorToDTO (Author a) {
-        return modelMapper.map(a, AuthorDTO.class);
+        return mapper.authorToDTO(a);
     }
 
     public static User DTOToUser(UserDTO userDto) {
-        User user = modelMapper.map(userDto, User.class);
+        User user = mapper.dtoToUser(userDto);
         user.setPassword(passwordEncoder.encode(userDto.getPassword()));
         return user;
     }
 
     public static UserDTO userToDTO(User user) {
-        return modelMapper.map(user, UserDTO.class);
+        return mapper.userToDTO(user);
     }
 
 }
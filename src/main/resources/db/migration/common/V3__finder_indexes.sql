@@ -0,0 +1,28 @@
+-- Secondary indexes for the repository finders. InnoDB appends the primary
+-- key to every secondary index, so (col) already orders ties by id, and id
+-- is spelled out only where the index has to cover more columns after it.
+-- Foreign keys get an index of their own, which already serves
+-- EditionRepo.findByConference and the article -> edition joins.
+
+-- EditionRepo year finders: the equality and keyset ones (year = ? and id > ?
+-- order by id), the range ones ordered by year, id, and their counts. The
+-- trailing columns are the edition columns of EditionView, so only the
+-- conference name is read from another index.
+create index idx_edition_year on edition (year, id, ref_conference, date, city);
+
+-- EditionRepo.findByDate
+create index idx_edition_date on edition (date);
+
+-- AuthorRepo.findByResearcher and findArticleViewsByResearcherId: the
+-- article ids of a researcher come from the index alone. Also serves the
+-- author -> researcher foreign key.
+create index idx_author_researcher on author (ref_researcher, ref_article);
+
+-- the co-authors of an article, and the author -> article foreign key
+create index idx_author_article on author (ref_article, ref_researcher);
+
+-- ResearcherRepo.findByNameAndSurnameAndSecSurname, the articles-by-complete-name lookup
+create index idx_researcher_full_name on researcher (name, surname, sec_surname);
+
+-- ConferenceRepo.findByName
+create index idx_conference_name on conference (name);
@@ -0,0 +1,52 @@
+-- H2 copy of mysql/V1__baseline.sql for the tests, with the role column
+-- type the H2 dialect validates against (no native enum).
+
+create table conference (
+    id integer not null auto_increment,
+    name varchar(128) not null,
+    primary key (id)
+);
+
+create table edition (
+    id integer not null auto_increment,
+    ref_conference integer not null,
+    year integer not null,
+    date date not null,
+    city varchar(64) not null,
+    primary key (id),
+    constraint fk_edition_conference foreign key (ref_conference) references conference (id)
+);
+
+create table article (
+    id integer not null auto_increment,
+    title varchar(256) not null,
+    ref_edition integer not null,
+    primary key (id),
+    constraint fk_article_edition foreign key (ref_edition) references edition (id) on delete cascade
+);
+
+create table researcher (
+    id integer not null auto_increment,
+    name varchar(64) not null,
+    surname varchar(64) not null,
+    sec_surname varchar(64) not null,
+    university varchar(64) not null,
+    primary key (id)
+);
+
+create table author (
+    id integer not null auto_increment,
+    ref_article integer not null,
+    ref_researcher integer not null,
+    primary key (id),
+    constraint fk_author_article foreign key (ref_article) references article (id),
+    constraint fk_author_researcher foreign key (ref_researcher) references researcher (id)
+);
+
+create table user (
+    username varchar(64) not null,
+    password varchar(64) not null,
+    role varchar(255) not null check (role in ('ADMIN','USER')),
+    primary key (username),
+    constraint username_unique unique (username)
+);
@@ -0,0 +1,24 @@
+-- H2 copy of mysql/V2__versions_and_id_generator.sql for the tests, with
+-- the zoned timestamp the H2 dialect validates last_modified against.
+
+alter table conference add column version bigint default 0 not null;
+alter table conference add column last_modified timestamp(6) with time zone;
+
+alter table edition add column version bigint default 0 not null;
+alter table edition add column last_modified timestamp(6) with time zone;
+
+alter table article add column version bigint default 0 not null;
+alter table article add column last_modified timestamp(6) with time zone;
+
+alter table researcher add column version bigint default 0 not null;
+alter table researcher add column last_modified timestamp(6) with time zone;
+
+alter table author add column version bigint default 0 not null;
+alter table author add column last_modified timestamp(6) with time zone;
+
+-- rows are added by IdGeneratorSeeder
+create table id_generator (
+    entity varchar(255) not null,
+    next_id bigint,
+    primary key (entity)
+);
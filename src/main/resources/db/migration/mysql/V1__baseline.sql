@@ -0,0 +1,54 @@
+-- Schema as ddl-auto=update created it on MySQL before the migrations:
+-- AUTO_INCREMENT ids, no optimistic locking columns. Databases created
+-- that way are baselined at this version instead of running it, so
+-- every later change goes in a script of its own.
+
+create table conference (
+    id integer not null auto_increment,
+    name varchar(128) not null,
+    primary key (id)
+);
+
+create table edition (
+    id integer not null auto_increment,
+    ref_conference integer not null,
+    year integer not null,
+    date date not null,
+    city varchar(64) not null,
+    primary key (id),
+    constraint fk_edition_conference foreign key (ref_conference) references conference (id)
+);
+
+create table article (
+    id integer not null auto_increment,
+    title varchar(256) not null,
+    ref_edition integer not null,
+    primary key (id),
+    constraint fk_article_edition foreign key (ref_edition) references edition (id) on delete cascade
+);
+
+create table researcher (
+    id integer not null auto_increment,
+    name varchar(64) not null,
+    surname varchar(64) not null,
+    sec_surname varchar(64) not null,
+    university varchar(64) not null,
+    primary key (id)
+);
+
+create table author (
+    id integer not null auto_increment,
+    ref_article integer not null,
+    ref_researcher integer not null,
+    primary key (id),
+    constraint fk_author_article foreign key (ref_article) references article (id),
+    constraint fk_author_researcher foreign key (ref_researcher) references researcher (id)
+);
+
+create table user (
+    username varchar(64) not null,
+    password varchar(64) not null,
+    role enum ('ADMIN','USER') not null,
+    primary key (username),
+    constraint username_unique unique (username)
+);
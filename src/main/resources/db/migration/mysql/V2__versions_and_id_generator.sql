@@ -0,0 +1,28 @@
+-- Optimistic locking and Last-Modified columns, and the table the pooled
+-- id generators draw from. Existing rows start at version 0; their
+-- last_modified stays null until the next write.
+-- The AUTO_INCREMENT ids stay: the generators insert explicit ids, which
+-- the column accepts, and IdGeneratorSeeder starts each generator past
+-- the current maximum id.
+
+alter table conference add column version bigint default 0 not null;
+alter table conference add column last_modified datetime(6);
+
+alter table edition add column version bigint default 0 not null;
+alter table edition add column last_modified datetime(6);
+
+alter table article add column version bigint default 0 not null;
+alter table article add column last_modified datetime(6);
+
+alter table researcher add column version bigint default 0 not null;
+alter table researcher add column last_modified datetime(6);
+
+alter table author add column version bigint default 0 not null;
+alter table author add column last_modified datetime(6);
+
+-- rows are added by IdGeneratorSeeder
+create table id_generator (
+    entity varchar(255) not null,
+    next_id bigint,
+    primary key (entity)
+);
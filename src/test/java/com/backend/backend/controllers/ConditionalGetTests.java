@@ -0,0 +1,120 @@
+package com.backend.backend.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.payloads.ConferenceDTO;
+import com.backend.backend.payloads.EditionDTO;
+import com.backend.backend.services.ConferenceService;
+import com.backend.backend.services.EditionService;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConferenceService conferenceService;
+
+    @Autowired
+    private EditionService editionService;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    private Conference conference;
+    private Edition edition;
+
+    @BeforeEach
+    void setUp() {
+        conference = this.catalog.conference("Conference");
+        edition = this.catalog.edition(conference, 2024, "City");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+    }
+
+    @Test
+    void getByIDAnswersNotModifiedUntilTheConferenceChanges() throws Exception {
+        String url = "/api/conference/getByID/" + conference.getId();
+
+        String etag = this.mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+
+        ConferenceDTO renamed = new ConferenceDTO();
+        renamed.setName("Renamed");
+        this.conferenceService.updateConference(renamed, conference.getId());
+
+        String newEtag = this.mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void editionPagesChangeTheirEtagWhenTheirConferenceChanges() throws Exception {
+        String url = "/api/edition/getAll?page=0";
+
+        String etag = this.mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        ConferenceDTO renamed = new ConferenceDTO();
+        renamed.setName("Renamed");
+        this.conferenceService.updateConference(renamed, conference.getId());
+
+        this.mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void editionPagesChangeTheirEtagWhenARowOnThePageChanges() throws Exception {
+        String url = "/api/edition/getAll?page=0&size=10";
+
+        String etag = this.mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].city").value("City"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        EditionDTO moved = new EditionDTO();
+        moved.setRef_conference(conference.getId());
+        moved.setYear(edition.getYear());
+        moved.setDate(edition.getDate());
+        moved.setCity("Moved");
+        this.editionService.updateEdition(edition.getId(), moved);
+
+        this.mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].city").value("Moved"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.backend.controllers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.backend.backend.entities.User;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.jwt.JwtService;
+import com.backend.backend.repositories.UserRepo;
+import com.backend.backend.utils.Role;
+
+// with the security filters on: the body is written in an ASYNC dispatch, which the JWT filter does not see
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        User user = this.userRepo.save(User.builder().username("export@example.com").password("secret").role(Role.USER).build());
+        this.bearer = "Bearer " + this.jwtService.getToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+        this.userRepo.deleteAll();
+    }
+
+    @Test
+    void anAuthenticatedExportIsWrittenInTheAsyncDispatch() throws Exception {
+        this.catalog.conference("Exported");
+
+        MvcResult result = this.mockMvc.perform(get("/api/export/conferences").header(HttpHeaders.AUTHORIZATION, this.bearer))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(containsString("\"name\":\"Exported\"")));
+    }
+
+    @Test
+    void anExportWithoutATokenIsUnauthorized() throws Exception {
+        this.mockMvc.perform(get("/api/export/conferences"))
+            .andExpect(status().isUnauthorized());
+    }
+}
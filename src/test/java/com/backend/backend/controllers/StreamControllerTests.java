@@ -0,0 +1,138 @@
+package com.backend.backend.controllers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.backend.backend.entities.User;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.jwt.JwtService;
+import com.backend.backend.repositories.UserRepo;
+import com.backend.backend.utils.Role;
+
+// with the security filters on; a small pool and queue, so the test can fill them
+@SpringBootTest(properties = {"stream.threads=2", "stream.queue-capacity=2"})
+@AutoConfigureMockMvc
+class StreamControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("streamExecutor")
+    private ExecutorService streamExecutor;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        User user = this.userRepo.save(User.builder().username("stream@example.com").password("secret").role(Role.USER).build());
+        this.bearer = "Bearer " + this.jwtService.getToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+        this.userRepo.deleteAll();
+    }
+
+    @Test
+    void conferencesAreStreamedOnTheStreamPool() throws Exception {
+        this.catalog.conference("Streamed");
+
+        MvcResult result = this.mockMvc.perform(get("/api/stream/conference/getAll").header(HttpHeaders.AUTHORIZATION, this.bearer))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(containsString("\"name\":\"Streamed\"")));
+    }
+
+    @Test
+    void anEmptyStreamIsAnEmptyBody() throws Exception {
+        MvcResult result = this.mockMvc.perform(get("/api/stream/conference/getByName/zzz").header(HttpHeaders.AUTHORIZATION, this.bearer))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void streamsArePagedPastOnePage() throws Exception {
+        for (int i = 0; i < 501; i++) this.catalog.conference("Paged " + i);
+
+        MvcResult result = this.mockMvc.perform(get("/api/stream/conference/getByName/Paged").header(HttpHeaders.AUTHORIZATION, this.bearer))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("\"name\":\"Paged 0\"")))
+            .andExpect(content().string(containsString("\"name\":\"Paged 500\"")));
+    }
+
+    @Test
+    void streamsBeyondThePoolAndItsQueueAreAnsweredServiceUnavailable() throws Exception {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) this.streamExecutor;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(pool.getMaximumPoolSize());
+        for (int i = 0; i < pool.getMaximumPoolSize(); i++) {
+            pool.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        try {
+            started.await();
+            while (pool.getQueue().remainingCapacity() > 0) pool.execute(() -> { });
+            MvcResult result = this.mockMvc.perform(get("/api/stream/conference/getAll").header(HttpHeaders.AUTHORIZATION, this.bearer))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false));
+        } finally {
+            release.countDown();
+        }
+    }
+
+}
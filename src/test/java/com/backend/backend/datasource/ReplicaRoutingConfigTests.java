@@ -0,0 +1,87 @@
+package com.backend.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.backend.backend.entities.Conference;
+import com.backend.backend.graph.CoauthorGraph;
+import com.backend.backend.repositories.ConferenceRepo;
+import com.backend.backend.statistics.PublicationStatistics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * Routing wired into JPA. The replica is the embedded test database
+ * itself, reached through its own pool, so it always holds the rows the
+ * primary wrote and the pool metrics tell where each statement ran.
+ */
+@SpringBootTest(properties = {
+    "datasource.replica.enabled=true",
+    "datasource.replica.urls[0]=jdbc:h2:mem:research;MODE=MySQL;NON_KEYWORDS=USER,YEAR,DATE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.hikari.pool-name=primary",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+class ReplicaRoutingConfigTests {
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
+    @Autowired
+    private CoauthorGraph coauthorGraph;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        this.conferenceRepo.deleteAll();
+    }
+
+    @Test
+    void readOnlyRepositoryCallsUseTheReplicaAndWritesThePrimary() {
+        Conference conference = new Conference();
+        conference.setName("Conference");
+
+        long primaryBefore = acquired("primary");
+        this.conferenceRepo.save(conference);
+        assertTrue(acquired("primary") > primaryBefore);
+
+        long replicaBefore = acquired("replica-0");
+        primaryBefore = acquired("primary");
+        assertEquals("Conference", this.conferenceRepo.findById(conference.getId()).orElseThrow().getName());
+        assertTrue(acquired("replica-0") > replicaBefore);
+        assertEquals(primaryBefore, acquired("primary"));
+    }
+
+    @Test
+    void statisticsRebuildsLoadFromThePrimary() {
+        long replicaBefore = acquired("replica-0");
+        long primaryBefore = acquired("primary");
+
+        assertTrue(this.publicationStatistics.rebuild());
+        assertTrue(acquired("primary") > primaryBefore);
+        assertEquals(replicaBefore, acquired("replica-0"));
+    }
+
+    @Test
+    void coauthorGraphRebuildsLoadFromThePrimary() {
+        long replicaBefore = acquired("replica-0");
+        long primaryBefore = acquired("primary");
+
+        assertTrue(this.coauthorGraph.rebuild());
+        assertTrue(acquired("primary") > primaryBefore);
+        assertEquals(replicaBefore, acquired("replica-0"));
+    }
+
+    private long acquired(String pool) {
+        return this.meterRegistry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count();
+    }
+}
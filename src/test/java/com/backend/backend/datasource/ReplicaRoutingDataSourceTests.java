@@ -0,0 +1,147 @@
+package com.backend.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * Routing over three embedded H2 databases, a primary and two replicas,
+ * each holding one row with its own name, so a read shows where it went.
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private static final Duration STICKY_WINDOW = Duration.ofMillis(500);
+
+    private final DataSource primary = database("primary");
+    private final SwitchableDataSource replica1 = new SwitchableDataSource(database("replica1"));
+    private final SwitchableDataSource replica2 = new SwitchableDataSource(database("replica2"));
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(STICKY_WINDOW);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), tracker, Duration.ofHours(1));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new PrimaryDataSource(primary, tracker));
+        dataSource.setReadOnlyDataSource(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        routing.close();
+    }
+
+    @Test
+    void readOnlyTransactionsAlternateBetweenReplicas() {
+        assertEquals(List.of("replica1", "replica2", "replica1", "replica2"), List.of(read(), read(), read(), read()));
+        assertEquals("primary", readWrite.execute(status -> node()));
+    }
+
+    @Test
+    void readsOfAUserStayOnThePrimaryForTheStickyWindowAfterAWrite() throws InterruptedException {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update node set writes = writes + 1"));
+
+        assertEquals("primary", read());
+        assertEquals("primary", read());
+
+        authenticate("bob");
+        assertEquals("replica1", read());
+
+        authenticate("alice");
+        Thread.sleep(STICKY_WINDOW.toMillis() + 200);
+        assertEquals("replica2", read());
+    }
+
+    @Test
+    void downReplicasAreSkippedUntilTheHealthCheckSeesThemUp() {
+        replica1.down = true;
+        assertEquals(List.of("replica2", "replica2", "replica2"), List.of(read(), read(), read()));
+
+        replica2.down = true;
+        assertEquals("primary", read());
+
+        replica1.down = false;
+        replica2.down = false;
+        assertEquals("primary", read());
+
+        routing.checkHealth();
+        assertEquals(Set.of("replica1", "replica2"), new HashSet<>(List.of(read(), read())));
+    }
+
+    @Test
+    void connectionsWithExplicitCredentialsComeFromThePrimary() throws SQLException {
+        try (Connection connection = routing.getConnection("", "")) {
+            assertEquals("primary", new JdbcTemplate(new SingleConnectionDataSource(connection, true)).queryForObject("select name from node", String.class));
+        }
+    }
+
+    private String read() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(16), writes int)");
+        jdbcTemplate.execute("delete from node");
+        jdbcTemplate.update("insert into node values (?, 0)", name);
+        return dataSource;
+    }
+
+    // a replica that can be taken down: it refuses connections while down
+    private static class SwitchableDataSource extends DelegatingDataSource {
+
+        volatile boolean down = false;
+
+        SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) throw new SQLException("Replica down");
+            return super.getConnection();
+        }
+    }
+}
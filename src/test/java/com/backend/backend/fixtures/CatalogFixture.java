@@ -0,0 +1,93 @@
+package com.backend.backend.fixtures;
+
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Author;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.repositories.AuthorRepo;
+import com.backend.backend.repositories.ConferenceRepo;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+
+/*
+ * Saves the Conference -> Edition -> Article <- Author -> Researcher rows
+ * the @SpringBootTest classes read back, and deletes them all again in
+ * foreign key order. The test database is shared by every context, so
+ * each class that saves rows calls deleteAll after each test.
+ *
+ *     @Autowired
+ *     private CatalogFixture catalog;
+ *     ...
+ *     Edition edition = this.catalog.edition(this.catalog.conference("Conference"), 2024, "City");
+ */
+@Component
+public class CatalogFixture {
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private ArticleRepo articleRepo;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    public Conference conference(String name) {
+        Conference conference = new Conference();
+        conference.setName(name);
+        return this.conferenceRepo.save(conference);
+    }
+
+    public Edition edition(Conference conference, int year, String city) {
+        Edition edition = new Edition();
+        edition.setConference(conference);
+        edition.setYear(year);
+        edition.setDate(new Date());
+        edition.setCity(city);
+        return this.editionRepo.save(edition);
+    }
+
+    public Article article(Edition edition, String title) {
+        Article article = new Article();
+        article.setTitle(title);
+        article.setEdition(edition);
+        return this.articleRepo.save(article);
+    }
+
+    public Researcher researcher(String name, String surname, String secSurname, String university) {
+        Researcher researcher = new Researcher();
+        researcher.setName(name);
+        researcher.setSurname(surname);
+        researcher.setSecSurname(secSurname);
+        researcher.setUniversity(university);
+        return this.researcherRepo.save(researcher);
+    }
+
+    public Author author(Article article, Researcher researcher) {
+        Author author = new Author();
+        author.setArticle(article);
+        author.setResearcher(researcher);
+        return this.authorRepo.save(author);
+    }
+
+    public void deleteAll() {
+        this.authorRepo.deleteAll();
+        this.researcherRepo.deleteAll();
+        this.articleRepo.deleteAll();
+        this.editionRepo.deleteAll();
+        this.conferenceRepo.deleteAll();
+    }
+}
@@ -0,0 +1,79 @@
+package com.backend.backend.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.backend.backend.payloads.CollaborationPath;
+import com.backend.backend.payloads.IdCount;
+import com.backend.backend.payloads.ResearcherDistance;
+
+class CoauthorGraphTests {
+
+    private final CoauthorGraph coauthorGraph = new CoauthorGraph();
+
+    @BeforeEach
+    void setUp() {
+        // articles 10 to 13 chain researchers 1-2-3-4 (1 and 2 share two), article 14 joins 5 and 6 apart
+        int[] researchers = {1, 2, 2, 3, 3, 4, 1, 2, 5, 6};
+        int[] articles = {10, 10, 11, 11, 12, 12, 13, 13, 14, 14};
+        this.coauthorGraph.load(researchers, articles, researchers.length);
+    }
+
+    @Test
+    void pathIsAShortestChainOfCoauthors() {
+        CollaborationPath path = this.coauthorGraph.path(1, 4);
+
+        assertEquals(3, path.distance());
+        assertEquals(List.of(1, 2, 3, 4), path.researchers());
+        assertEquals(List.of(4, 3, 2, 1), this.coauthorGraph.path(4, 1).researchers());
+        assertEquals(0, this.coauthorGraph.path(2, 2).distance());
+        assertNull(this.coauthorGraph.path(1, 5).distance());
+        assertNull(this.coauthorGraph.path(1, 99).distance());
+    }
+
+    @Test
+    void neighbourhoodIsOrderedByDistanceAndLimited() {
+        assertEquals(List.of(new ResearcherDistance(2, 1), new ResearcherDistance(3, 2)), this.coauthorGraph.neighbourhood(1, 2, 10));
+        assertEquals(List.of(new ResearcherDistance(2, 1)), this.coauthorGraph.neighbourhood(1, 3, 1));
+        assertEquals(List.of(), this.coauthorGraph.neighbourhood(99, 2, 10));
+    }
+
+    @Test
+    void topCoauthorsCountSharedArticles() {
+        assertEquals(List.of(new IdCount(1, 2), new IdCount(3, 1)), this.coauthorGraph.topCoauthors(2, 10));
+        assertEquals(List.of(new IdCount(1, 2)), this.coauthorGraph.topCoauthors(2, 1));
+
+        // a repeated author row does not count the article twice
+        this.coauthorGraph.add(1, 10);
+        assertEquals(List.of(new IdCount(1, 2), new IdCount(3, 1)), this.coauthorGraph.topCoauthors(2, 10));
+    }
+
+    @Test
+    void linksAreAddedAndRemovedIncrementally() {
+        this.coauthorGraph.add(4, 14);
+        assertEquals(List.of(1, 2, 3, 4, 5), this.coauthorGraph.path(1, 5).researchers());
+
+        this.coauthorGraph.remove(3, 11);
+        assertNull(this.coauthorGraph.path(1, 4).distance());
+        assertEquals(0, this.coauthorGraph.papers(7));
+
+        // a new researcher with an id past the built arrays
+        this.coauthorGraph.add(200, 12);
+        assertEquals(List.of(200, 3), this.coauthorGraph.path(200, 3).researchers());
+    }
+
+    @Test
+    void overridesAreCompactedBackIntoTheArrays() {
+        for (int researcher = 100; researcher < 5100; researcher++) this.coauthorGraph.add(researcher, 10);
+
+        assertEquals(1, this.coauthorGraph.path(5099, 2).distance());
+        assertEquals(List.of(100, 2, 3), this.coauthorGraph.path(100, 3).researchers());
+        assertEquals(5001, this.coauthorGraph.neighbourhood(1, 1, 10_000).size());
+        assertEquals(2, this.coauthorGraph.papers(1));
+    }
+}
@@ -0,0 +1,56 @@
+package com.backend.backend.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.backend.backend.entities.User;
+import com.backend.backend.utils.Role;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtServiceTests {
+
+    private final JwtService jwtService = new JwtService();
+
+    private final User user = new User("ada@example.com", "secret", Role.USER);
+
+    @Test
+    void verifiedTokensAreServedFromTheCache() {
+        String token = this.jwtService.getToken(this.user);
+
+        Claims claims = this.jwtService.verify(token);
+
+        assertEquals("ada@example.com", claims.getSubject());
+        assertSame(claims, this.jwtService.verify(token));
+        assertTrue(this.jwtService.isTokenValid(token, this.user));
+        assertFalse(this.jwtService.isTokenValid(token, new User("bob@example.com", "secret", Role.USER)));
+    }
+
+    @Test
+    void tokensCarryRoleAndAuthorities() {
+        Claims claims = this.jwtService.verify(this.jwtService.getToken(new User("root@example.com", "secret", Role.ADMIN)));
+
+        assertEquals("ADMIN", claims.get(JwtService.ROLE_CLAIM));
+        assertEquals(List.of("ADMIN"), this.jwtService.getAuthorities(claims).stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void tamperedTokensAreRejected() {
+        String token = this.jwtService.getToken(this.user);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + this.jwtService.getToken(new User("eve@example.com", "secret", Role.ADMIN)).split("\\.")[1] + "." + parts[2];
+
+        this.jwtService.verify(token);
+
+        assertThrows(SignatureException.class, () -> this.jwtService.verify(tampered));
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.backend.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * Number of SQL statements a test method may run, checked by
+ * QueryCountExtension. Only the test method body is counted, not the
+ * @BeforeEach and @AfterEach methods that set up and clean the data.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExpectedQueries {
+
+    // exact number of statements, -1 to only check max
+    int value() default -1;
+
+    int max() default Integer.MAX_VALUE;
+}
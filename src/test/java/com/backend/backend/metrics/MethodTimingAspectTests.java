@@ -0,0 +1,56 @@
+package com.backend.backend.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.backend.backend.services.ConferenceService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MethodTimingAspectTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConferenceService conferenceService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void servicesAndRepositoriesAreTimedWithOutcomeAndPercentiles() {
+        this.conferenceService.getConferenceByID(-1);
+
+        Timer service = this.meterRegistry.find(MethodTimingAspect.SERVICE_TIMER)
+            .tags("service", "ConferenceServiceImpl", "method", "getConferenceByID", "outcome", "FAILURE", "status", "404")
+            .timer();
+        assertNotNull(service);
+        assertEquals(1, service.count());
+        assertEquals(3, service.takeSnapshot().percentileValues().length);
+
+        Timer repository = this.meterRegistry.find(MethodTimingAspect.REPOSITORY_TIMER)
+            .tags("repository", "ConferenceRepo", "method", "findViewById", "outcome", "SUCCESS")
+            .timer();
+        assertNotNull(repository);
+    }
+
+    @Test
+    void requestsAreTimedPerEndpointWithPercentiles() throws Exception {
+        this.mockMvc.perform(get("/api/conference/getByID/-1"));
+
+        Timer requests = this.meterRegistry.find("http.server.requests").timer();
+        assertNotNull(requests);
+        assertEquals(3, requests.takeSnapshot().percentileValues().length);
+    }
+}
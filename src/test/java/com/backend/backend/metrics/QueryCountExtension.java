@@ -0,0 +1,51 @@
+package com.backend.backend.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/*
+ * JUnit 5 extension for @SpringBootTest classes that counts the SQL
+ * statements of each test method with the application's QueryCounter and
+ * checks them against its @ExpectedQueries. Methods without the
+ * annotation are not checked. A failure lists every statement that ran.
+ *
+ *     @SpringBootTest
+ *     @ExtendWith(QueryCountExtension.class)
+ *     class ...Tests {
+ *         @Test
+ *         @ExpectedQueries(1)
+ *         void getByIDRunsOneSelect() { ... }
+ *     }
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (expected(context) != null) counter(context).start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ExpectedQueries expected = expected(context);
+        if (expected == null) return;
+
+        QueryCount count = counter(context).stop();
+        if (expected.value() >= 0) {
+            assertEquals(expected.value(), count.getTotal(), () -> "Unexpected number of statements, ran " + count);
+        }
+        assertTrue(count.getTotal() <= expected.max(), () -> "More than " + expected.max() + " statements, ran " + count);
+    }
+
+    private static ExpectedQueries expected(ExtensionContext context) {
+        return context.getRequiredTestMethod().getAnnotation(ExpectedQueries.class);
+    }
+
+    private static QueryCounter counter(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(QueryCounter.class);
+    }
+}
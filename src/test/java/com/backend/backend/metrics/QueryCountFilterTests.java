@@ -0,0 +1,56 @@
+package com.backend.backend.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryCountFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void asyncRequestsAreCountedApartInsteadOfRecorded() throws Exception {
+        double before = asyncCount();
+        this.mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content("{\"email\":\"nobody@example.com\",\"password\":\"password1\",\"role\":\"USER\"}"))
+            .andExpect(request().asyncStarted());
+
+        assertNull(this.meterRegistry.find("http.server.requests.queries").tag("uri", "/api/auth/login").summary());
+        assertEquals(before + 1, asyncCount());
+    }
+
+    @Test
+    void synchronousRequestsAreRecorded() throws Exception {
+        long before = recorded();
+        this.mockMvc.perform(get("/api/conference/getByID/-1"));
+
+        assertEquals(before + 1, recorded());
+    }
+
+    private double asyncCount() {
+        Counter counter = this.meterRegistry.find("http.server.requests.queries.async").tag("uri", "/api/auth/login").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long recorded() {
+        return this.meterRegistry.find("http.server.requests.queries").summaries().stream().mapToLong(DistributionSummary::count).sum();
+    }
+}
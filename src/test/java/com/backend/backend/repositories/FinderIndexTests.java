@@ -0,0 +1,96 @@
+package com.backend.backend.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.metrics.QueryCount;
+import com.backend.backend.metrics.QueryCounter;
+
+/*
+ * Every finder with an index in db/migration must be answered through it.
+ * The statements a finder runs are captured and explained on the migrated
+ * H2 schema: none may scan a table, and the lookup must go through an
+ * index that starts with the filtered column. The arguments match no row, so the plans
+ * only contain the finder's own statement.
+ */
+@SpringBootTest(properties = "search.researcher.index.enabled=false")
+class FinderIndexTests {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+    private static final Pattern INDEX_ACCESS = Pattern.compile("/\\* PUBLIC\\.(\\w+): ");
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Test
+    void editionFindersUseIndexes() {
+        assertIndexed("YEAR", () -> this.editionRepo.findByYear(1, PAGE));
+        assertIndexed("YEAR", () -> this.editionRepo.findByYearBetween(2, 3, PAGE));
+        assertIndexed("YEAR", () -> this.editionRepo.findByYearAndIdGreaterThanOrderByIdAsc(4, 0, PAGE));
+        assertIndexed("DATE", () -> this.editionRepo.findByDate(new Date(0), PAGE));
+
+        Conference conference = new Conference();
+        conference.setId(-1);
+        assertIndexed("REF_CONFERENCE", () -> this.editionRepo.findByConference(conference, PAGE));
+    }
+
+    @Test
+    void authorAndResearcherFindersUseIndexes() {
+        Researcher researcher = new Researcher();
+        researcher.setId(-1);
+        assertIndexed("REF_RESEARCHER", () -> this.authorRepo.findByResearcher(researcher));
+        assertIndexed("REF_RESEARCHER", () -> this.authorRepo.findArticleViewsByResearcherId(-1));
+
+        assertIndexed("NAME", () -> this.researcherRepo.findByNameAndSurnameAndSecSurname("No", "Such", "Researcher"));
+        assertIndexed("NAME", () -> this.conferenceRepo.findByName("No such conference", PAGE));
+    }
+
+    private void assertIndexed(String column, Runnable finder) {
+        QueryCount count = this.queryCounter.count(finder);
+        assertFalse(count.getStatements().isEmpty(), "the finder ran no statement");
+
+        for (String sql : count.getStatements().keySet()) {
+            String plan = this.jdbcTemplate.queryForObject("explain " + sql, String.class);
+            assertFalse(plan.contains(".tableScan"), () -> "Table scan for " + sql + "\n" + plan);
+
+            // H2 names the index it reads, e.g. /* PUBLIC.IDX_EDITION_YEAR: "YEAR" = ?1 */, also when it scans
+            // a whole covering index, so the index only counts as a lookup if it starts with the column
+            boolean lookup = INDEX_ACCESS.matcher(plan).results()
+                .anyMatch(index -> column.equals(leadingColumn(index.group(1))));
+            assertTrue(lookup, () -> "No index starting with " + column + " for " + sql + "\n" + plan);
+        }
+    }
+
+    private String leadingColumn(String index) {
+        return this.jdbcTemplate.queryForList(
+            "select column_name from information_schema.index_columns where index_name = ? and ordinal_position = 1", String.class, index)
+            .stream().findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.backend.backend.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/*
+ * Upgrade of a database created by ddl-auto=update before the migrations:
+ * tables and rows but no history. Flyway baselines it at V1, whose script
+ * is that schema, and runs the later scripts on top of the existing rows.
+ */
+class SchemaUpgradeTests {
+
+    @Test
+    void aDatabaseCreatedByDdlAutoIsBaselinedAndUpgraded() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:upgrade;MODE=MySQL;NON_KEYWORDS=USER,YEAR,DATE;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V1__baseline.sql")).execute(dataSource);
+        jdbcTemplate.update("insert into conference (name) values ('Existing')");
+
+        MigrateResult result = Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load()
+            .migrate();
+
+        assertEquals("1", result.initialSchemaVersion);
+        assertEquals(2, result.migrationsExecuted);
+        assertEquals(0L, jdbcTemplate.queryForObject("select version from conference where name = 'Existing'", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from id_generator", Integer.class));
+
+        // the ids stay AUTO_INCREMENT, and accept the explicit ids of the table generators
+        jdbcTemplate.update("insert into conference (name) values ('Generated')");
+        jdbcTemplate.update("insert into conference (id, name) values (100, 'Explicit')");
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from conference", Integer.class));
+    }
+}
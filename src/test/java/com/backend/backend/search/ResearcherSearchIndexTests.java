@@ -0,0 +1,91 @@
+package com.backend.backend.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.payloads.ResearcherView;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.search.ResearcherSearchIndex.Field;
+import com.backend.backend.utils.SliceResponse;
+
+@SpringBootTest
+class ResearcherSearchIndexTests {
+
+    @Autowired
+    private ResearcherSearchIndex researcherSearchIndex;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @BeforeEach
+    void setUp() {
+        save("Alberto", "Gonzalez", "Perez", "Universidad de Chile");
+        save("Roberta", "Martinez", "Lopez", "Universidad de Talca");
+        save("Alba", "Robertson", "Diaz", "MIT");
+        this.researcherSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.researcherRepo.deleteAll();
+    }
+
+    @Test
+    void searchMatchesSubstringsCaseInsensitively() {
+        assertTrue(this.researcherSearchIndex.isReady());
+        assertEquals(List.of("Alberto", "Roberta"), names(this.researcherSearchIndex.search(Field.NAME, "BERT", 0, 10)));
+        assertEquals(List.of("Alberto", "Alba"), names(this.researcherSearchIndex.search(Field.NAME, "al", 0, 10)));
+        assertEquals(List.of("Alba"), names(this.researcherSearchIndex.search(Field.UNIVERSITY, "mit", 0, 10)));
+        assertTrue(this.researcherSearchIndex.search(Field.SURNAME, "xyz", 0, 10).getContent().isEmpty());
+    }
+
+    @Test
+    void searchPagesInIdOrder() {
+        SliceResponse<ResearcherView> first = this.researcherSearchIndex.search(Field.UNIVERSITY, "universidad", 0, 1);
+        SliceResponse<ResearcherView> second = this.researcherSearchIndex.search(Field.UNIVERSITY, "universidad", 1, 1);
+
+        assertEquals(List.of("Alberto"), names(first));
+        assertTrue(first.isHasNext());
+        assertEquals(List.of("Roberta"), names(second));
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void putAndRemoveKeepTheIndexCurrent() {
+        Researcher researcher = this.researcherRepo.findByNameAndSurnameAndSecSurname("Alba", "Robertson", "Diaz").get();
+        researcher.setUniversity("Stanford");
+        this.researcherSearchIndex.put(researcher);
+
+        assertTrue(this.researcherSearchIndex.search(Field.UNIVERSITY, "mit", 0, 10).getContent().isEmpty());
+        assertEquals(List.of("Alba"), names(this.researcherSearchIndex.search(Field.UNIVERSITY, "stanf", 0, 10)));
+
+        this.researcherSearchIndex.remove(researcher.getId());
+
+        assertTrue(this.researcherSearchIndex.search(Field.UNIVERSITY, "stanf", 0, 10).getContent().isEmpty());
+    }
+
+    private void save(String name, String surname, String secSurname, String university) {
+        Researcher researcher = new Researcher();
+        researcher.setName(name);
+        researcher.setSurname(surname);
+        researcher.setSecSurname(secSurname);
+        researcher.setUniversity(university);
+        this.researcherRepo.save(researcher);
+    }
+
+    private static List<String> names(SliceResponse<ResearcherView> slice) {
+        return slice.getContent().stream().map(ResearcherView::name).collect(Collectors.toList());
+    }
+
+}
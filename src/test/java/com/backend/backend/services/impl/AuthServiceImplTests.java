@@ -0,0 +1,102 @@
+package com.backend.backend.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpStatus;
+
+import com.backend.backend.jwt.JwtService;
+import com.backend.backend.payloads.UserDTO;
+import com.backend.backend.repositories.UserRepo;
+import com.backend.backend.services.AuthService;
+import com.backend.backend.utils.ApiResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// one hashing thread and a queue of one, so a blocked task and a queued one saturate the executor
+@SpringBootTest(properties = {"auth.hashing.threads=1", "auth.hashing.queue-capacity=1"})
+class AuthServiceImplTests {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ExecutorService passwordHashingExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private JwtService jwtService;
+
+    @AfterEach
+    void tearDown() {
+        this.userRepo.deleteAll();
+    }
+
+    @Test
+    void loginChecksThePasswordOffTheRequestThread() {
+        assertEquals(HttpStatus.CREATED, this.authService.register(user("ada@example.com", "secret")).join().getStatus());
+        long matches = this.meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count();
+
+        assertEquals(HttpStatus.OK, this.authService.login(user("ada@example.com", "secret")).join().getStatus());
+        assertEquals(HttpStatus.UNAUTHORIZED, this.authService.login(user("ada@example.com", "wrong")).join().getStatus());
+        assertEquals(HttpStatus.UNAUTHORIZED, this.authService.login(user("bob@example.com", "secret")).join().getStatus());
+        assertEquals(matches + 3, this.meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void loginFailureAfterTheHashIsAnsweredAsAnApiResponse() {
+        assertEquals(HttpStatus.CREATED, this.authService.register(user("ada@example.com", "secret")).join().getStatus());
+        doThrow(new IllegalStateException("Signing key unavailable")).when(this.jwtService).getToken(any());
+
+        ApiResponse response = this.authService.login(user("ada@example.com", "secret")).join();
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        assertEquals("Error logging in user: Signing key unavailable", response.getMessage());
+    }
+
+    @Test
+    void saturatedExecutorAnswersServiceUnavailable() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        this.passwordHashingExecutor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            started.await();
+            this.passwordHashingExecutor.execute(() -> {});
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, this.authService.login(user("ada@example.com", "secret")).join().getStatus());
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, this.authService.register(user("ada@example.com", "secret")).join().getStatus());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static UserDTO user(String email, String password) {
+        UserDTO user = new UserDTO();
+        user.setEmail(email);
+        user.setPassword(password);
+        return user;
+    }
+}
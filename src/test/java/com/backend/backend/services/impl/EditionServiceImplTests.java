@@ -0,0 +1,98 @@
+package com.backend.backend.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import com.backend.backend.entities.Conference;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.payloads.EditionView;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.services.EditionService;
+import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.BatchResponse;
+import com.backend.backend.utils.CursorPage;
+
+@SpringBootTest
+class EditionServiceImplTests {
+
+    @Autowired
+    private EditionService editionService;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    @BeforeEach
+    void setUp() {
+        Conference conference = this.catalog.conference("Conference");
+
+        // several editions share a year so the cursor has to break ties on the id
+        int[] years = {2003, 2001, 2002, 2001, 2003, 2002, 2001, 1999, 2005};
+        for (int year : years) this.catalog.edition(conference, year, "City " + year);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEditionsBetweenYearsByCursorWalksEveryRowOnce() {
+        List<Integer> years = new ArrayList<>();
+        String after = null;
+
+        do {
+            ApiResponse response = this.editionService.getEditionsBetweenYearsByCursor(2000, 2004, after, 2);
+            CursorPage<EditionView> page = (CursorPage<EditionView>) response.getData();
+            page.getContent().forEach(e -> years.add(e.year()));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        assertEquals(List.of(2001, 2001, 2001, 2002, 2002, 2003, 2003), years);
+    }
+
+    @Test
+    void getEditionsBetweenYearsByCursorRejectsInvalidCursor() {
+        ApiResponse response = this.editionService.getEditionsBetweenYearsByCursor(2000, 2004, "not-a-cursor", 2);
+
+        assertEquals(false, response.getSuccess());
+        assertNull(response.getData());
+    }
+
+    @Test
+    void getEditionsByCursorRejectsSizeBelowOne() {
+        ApiResponse response = this.editionService.getEditionsBetweenYearsByCursor(2000, 2004, null, 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        assertNull(response.getData());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEditionsByIDsKeepsRequestOrderAndReportsMissingIds() {
+        List<Integer> ids = new ArrayList<>();
+        this.editionRepo.findAll().forEach(e -> ids.add(0, e.getId()));
+        int missing = ids.get(0) + 1000;
+        List<Integer> requested = List.of(ids.get(0), missing, ids.get(2), ids.get(1), ids.get(0));
+
+        ApiResponse response = this.editionService.getEditionsByIDs(requested);
+        BatchResponse<EditionView> batch = (BatchResponse<EditionView>) response.getData();
+
+        assertEquals(List.of(ids.get(0), ids.get(2), ids.get(1)), batch.getContent().stream().map(EditionView::id).toList());
+        assertEquals(List.of(missing), batch.getMissing());
+    }
+
+}
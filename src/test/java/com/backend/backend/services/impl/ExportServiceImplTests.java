@@ -0,0 +1,69 @@
+package com.backend.backend.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.services.ExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+class ExportServiceImplTests {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ArticleRepo articleRepo;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+    }
+
+    @Test
+    void exportArticlesWritesOneLinePerRowAcrossPersistenceContextClears() throws Exception {
+        Edition edition = this.catalog.edition(this.catalog.conference("Conference"), 2024, "City");
+
+        // more rows than the export keeps in the persistence context at once
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            Article article = new Article();
+            article.setTitle("Article " + i);
+            article.setEdition(edition);
+            articles.add(article);
+        }
+        this.articleRepo.saveAll(articles);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = this.exportService.exportArticles(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1500, written);
+        assertEquals(1500, lines.length);
+
+        JsonNode last = this.objectMapper.readTree(lines[1499]);
+        assertEquals("Article 1499", last.get("title").asText());
+        assertEquals("Conference", last.get("edition").get("conference").get("name").asText());
+    }
+
+}
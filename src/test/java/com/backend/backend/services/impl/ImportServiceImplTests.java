@@ -0,0 +1,145 @@
+package com.backend.backend.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import com.backend.backend.entities.Edition;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.repositories.AuthorRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.services.ImportService;
+import com.backend.backend.utils.ApiResponse;
+import com.backend.backend.utils.ImportReport;
+
+// a window of one chunk, so the keys of the first chunk are gone by the third
+@SpringBootTest(properties = "import.key-window-chunks=1")
+class ImportServiceImplTests {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ArticleRepo articleRepo;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    private Edition edition;
+
+    @BeforeEach
+    void setUp() {
+        this.edition = this.catalog.edition(this.catalog.conference("Conference"), 2024, "City");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+    }
+
+    @Test
+    void importNdjsonLinksRowsByKeyAndReportsRejectedLines() {
+        String body = String.join("\n",
+            "{\"type\":\"researcher\",\"key\":\"r1\",\"name\":\"Ada\",\"surname\":\"Lovelace\",\"secSurname\":\"Byron\",\"university\":\"London\"}",
+            "{\"type\":\"article\",\"key\":\"a1\",\"title\":\"Notes\",\"ref_edition\":" + this.edition.getId() + "}",
+            "{\"type\":\"author\",\"article_key\":\"a1\",\"researcher_key\":\"r1\"}",
+            "",
+            "{\"type\":\"researcher\",\"name\":\"X\",\"surname\":\"Lovelace\",\"secSurname\":\"Byron\",\"university\":\"London\"}",
+            "{\"type\":\"article\",\"title\":\"Orphan\",\"ref_edition\":-1}",
+            "{\"type\":\"author\",\"article_key\":\"missing\",\"researcher_key\":\"r1\"}",
+            "{not json");
+
+        ApiResponse response = this.importService.importRows(stream(body), "application/x-ndjson");
+        ImportReport report = (ImportReport) response.getData();
+
+        assertEquals(7, report.getProcessed());
+        assertEquals(3, report.getImported());
+        assertEquals(4, report.getFailed());
+        assertEquals(5, report.getErrors().get(0).getLine());
+        assertEquals(6, report.getErrors().get(1).getLine());
+        assertEquals(7, report.getErrors().get(2).getLine());
+        assertEquals(8, report.getErrors().get(3).getLine());
+        assertEquals(1, this.authorRepo.count());
+        assertEquals(1, this.articleRepo.count());
+    }
+
+    @Test
+    void importCsvReadsQuotedValues() {
+        String body = String.join("\n",
+            "type,key,name,surname,secSurname,university,title,ref_edition,article_key,researcher_key",
+            "researcher,r1,Grace,Hopper,Murray,\"Yale, New Haven\",,,,",
+            "article,a1,,,,,\"A \"\"quoted\"\"\ntitle\"," + this.edition.getId() + ",,",
+            "author,,,,,,,,a1,r1");
+
+        ApiResponse response = this.importService.importRows(stream(body), "text/csv");
+        ImportReport report = (ImportReport) response.getData();
+
+        assertEquals(3, report.getImported());
+        assertTrue(report.getErrors().isEmpty());
+        assertEquals("Yale, New Haven", this.researcherRepo.findAll().get(0).getUniversity());
+        assertEquals("A \"quoted\"\ntitle", this.articleRepo.findAll().get(0).getTitle());
+    }
+
+    @Test
+    void importFailureReportsTheChunksAlreadyCommitted() {
+        String chunk = "{\"type\":\"researcher\",\"name\":\"Ada\",\"surname\":\"Lovelace\",\"secSurname\":\"Byron\",\"university\":\"London\"}\n".repeat(500);
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        ApiResponse response = this.importService.importRows(new SequenceInputStream(stream(chunk), broken), "application/x-ndjson");
+        ImportReport report = (ImportReport) response.getData();
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        assertEquals(500, report.getImported());
+        assertEquals(500, this.researcherRepo.count());
+    }
+
+    @Test
+    void keysOlderThanTheWindowAreReportedNotFound() {
+        String researcher = "{\"type\":\"researcher\",\"name\":\"Ada\",\"surname\":\"Lovelace\",\"secSurname\":\"Byron\",\"university\":\"London\"}\n";
+        String body = "{\"type\":\"researcher\",\"key\":\"r1\",\"name\":\"Grace\",\"surname\":\"Hopper\",\"secSurname\":\"Murray\",\"university\":\"Yale\"}\n"
+            + "{\"type\":\"article\",\"key\":\"a1\",\"title\":\"Notes\",\"ref_edition\":" + this.edition.getId() + "}\n"
+            + researcher.repeat(498)
+            + "{\"type\":\"author\",\"article_key\":\"a1\",\"researcher_key\":\"r1\"}\n"
+            + researcher.repeat(499)
+            + "{\"type\":\"author\",\"article_key\":\"a1\",\"researcher_key\":\"r1\"}\n";
+
+        ApiResponse response = this.importService.importRows(stream(body), "application/x-ndjson");
+        ImportReport report = (ImportReport) response.getData();
+
+        // the second chunk still sees the keys of the first one, the third chunk does not
+        assertEquals(1000, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(1001, report.getErrors().get(0).getLine());
+        assertEquals("Article with key a1 not found in the last 500 rows", report.getErrors().get(0).getMessage());
+        assertEquals(1, this.authorRepo.count());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
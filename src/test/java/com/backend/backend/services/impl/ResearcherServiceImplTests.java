@@ -0,0 +1,72 @@
+package com.backend.backend.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.payloads.ArticleView;
+import com.backend.backend.services.ResearcherService;
+import com.backend.backend.utils.ApiResponse;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class ResearcherServiceImplTests {
+
+    private static final int ARTICLES = 30;
+
+    @Autowired
+    private ResearcherService researcherService;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        Researcher researcher = this.catalog.researcher("Ada", "Lovelace", "Byron", "London");
+
+        // one conference and edition per article so that every eager association is distinct
+        for (int i = 0; i < ARTICLES; i++) {
+            Edition edition = this.catalog.edition(this.catalog.conference("Conference " + i), 2000 + i, "City " + i);
+            this.catalog.author(this.catalog.article(edition, "Article " + i), researcher);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getArticlesFromResearcherByCompleteNameDoesNotIssueNPlusOneQueries() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ApiResponse response = this.researcherService.getArticlesFromResearcherByCompleteName("Ada", "Lovelace", "Byron");
+
+        assertTrue(response.getSuccess());
+        List<ArticleView> articles = (List<ArticleView>) response.getData();
+        assertEquals(ARTICLES, articles.size());
+        articles.forEach(a -> assertTrue(a.edition().conference().name().startsWith("Conference")));
+
+        // one select for the researcher, one projecting the articles with their edition and conference
+        assertTrue(statistics.getPrepareStatementCount() <= 2, "Expected at most 2 statements but got " + statistics.getPrepareStatementCount());
+    }
+
+}
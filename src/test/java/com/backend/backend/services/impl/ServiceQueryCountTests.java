@@ -0,0 +1,123 @@
+package com.backend.backend.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Author;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.metrics.ExpectedQueries;
+import com.backend.backend.metrics.QueryCount;
+import com.backend.backend.metrics.QueryCountExtension;
+import com.backend.backend.metrics.QueryCounter;
+import com.backend.backend.repositories.AuthorRepo;
+import com.backend.backend.services.ArticleService;
+import com.backend.backend.services.AuthorService;
+import com.backend.backend.services.EditionService;
+import com.backend.backend.services.ResearcherService;
+
+/*
+ * Statement budgets of the read paths. Every read selects a view with
+ * its associations joined in, so each one must stay a fixed number of
+ * statements however many rows it returns.
+ */
+@SpringBootTest(properties = "search.researcher.index.enabled=false")
+@ExtendWith(QueryCountExtension.class)
+class ServiceQueryCountTests {
+
+    private static final int ROWS = 6;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private EditionService editionService;
+
+    @Autowired
+    private ResearcherService researcherService;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    private Author author;
+
+    @BeforeEach
+    void setUp() {
+        // one conference, edition, article and researcher per author, so eager loads cannot share rows
+        for (int i = 0; i < ROWS; i++) {
+            Edition edition = this.catalog.edition(this.catalog.conference("Conference " + i), 2000 + i, "City " + i);
+            Article article = this.catalog.article(edition, "Article " + i);
+            Researcher researcher = this.catalog.researcher("Name " + i, "Surname", "SecSurname", "University");
+            author = this.catalog.author(article, researcher);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    void getAuthorByIDRunsOneSelect() {
+        this.authorService.getAuthorByID(author.getId());
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    void getAuthorsByIDsRunsOneSelectPerChunk() {
+        this.authorService.getAuthorsByIDs(List.of(author.getId(), author.getId() - 1, author.getId() - 2));
+    }
+
+    @Test
+    @ExpectedQueries(max = 2)
+    void getAllAuthorsPaginatedRunsTheViewAndCountSelects() {
+        this.authorService.getAllAuthorsPaginated(1, 2);
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    void getAllArticlesByCursorRunsOneSelect() {
+        this.articleService.getAllArticlesByCursor(null, ROWS);
+    }
+
+    @Test
+    @ExpectedQueries(max = 2)
+    void getAllEditionsPaginatedRunsTheViewAndCountSelects() {
+        this.editionService.getAllEditionsPaginated(1, 2);
+    }
+
+    @Test
+    @ExpectedQueries(max = 2)
+    void getAllResearchersPaginatedRunsTheViewAndCountSelects() {
+        this.researcherService.getAllResearchersPaginated(1, 2);
+    }
+
+    @Test
+    void loadingAuthorEntitiesShowsTheEagerManyToOneAsRepeatedSelects() {
+        QueryCount count = this.queryCounter.count(() -> this.authorRepo.findAll());
+
+        assertTrue(count.getTotal() > ROWS);
+        assertFalse(count.getRepeatedSelects(ROWS).isEmpty());
+    }
+}
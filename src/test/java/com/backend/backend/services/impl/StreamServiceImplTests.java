@@ -0,0 +1,60 @@
+package com.backend.backend.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.backend.backend.entities.Conference;
+import com.backend.backend.fixtures.CatalogFixture;
+import com.backend.backend.services.StreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+class StreamServiceImplTests {
+
+    @Autowired
+    private StreamService streamService;
+
+    @Autowired
+    private CatalogFixture catalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        this.catalog.deleteAll();
+    }
+
+    @Test
+    void editionsBetweenYearsAreStreamedInYearOrder() throws Exception {
+        Conference conference = this.catalog.conference("Conference");
+        for (int year : new int[] {2022, 2019, 2021, 2025, 2020}) this.catalog.edition(conference, year, "City " + year);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = this.streamService.streamEditionsBetweenYears(2020, 2022, out);
+
+        List<Integer> years = Arrays.stream(out.toString(StandardCharsets.UTF_8).split("\n"))
+            .map(this::readYear)
+            .toList();
+        assertEquals(3, written);
+        assertEquals(List.of(2020, 2021, 2022), years);
+    }
+
+    private int readYear(String line) {
+        try {
+            return this.objectMapper.readTree(line).get("year").asInt();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.backend.backend.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import com.backend.backend.entities.Article;
+import com.backend.backend.entities.Author;
+import com.backend.backend.entities.Conference;
+import com.backend.backend.entities.Edition;
+import com.backend.backend.entities.Researcher;
+import com.backend.backend.payloads.ArticleDTO;
+import com.backend.backend.payloads.AuthorDTO;
+import com.backend.backend.payloads.ConferenceDTO;
+import com.backend.backend.payloads.EditionDTO;
+import com.backend.backend.payloads.IdCount;
+import com.backend.backend.payloads.ResearcherDTO;
+import com.backend.backend.repositories.ArticleRepo;
+import com.backend.backend.repositories.AuthorRepo;
+import com.backend.backend.repositories.ConferenceRepo;
+import com.backend.backend.repositories.EditionRepo;
+import com.backend.backend.repositories.ResearcherRepo;
+import com.backend.backend.services.ArticleService;
+import com.backend.backend.services.AuthorService;
+import com.backend.backend.services.ConferenceService;
+import com.backend.backend.services.EditionService;
+import com.backend.backend.services.ResearcherService;
+import com.backend.backend.services.StatisticsService;
+import com.backend.backend.utils.ApiResponse;
+
+@SpringBootTest(properties = "search.researcher.index.enabled=false")
+class PublicationStatisticsTests {
+
+    @Autowired
+    private PublicationStatistics publicationStatistics;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private ConferenceService conferenceService;
+
+    @Autowired
+    private EditionService editionService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ResearcherService researcherService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private AuthorRepo authorRepo;
+
+    @Autowired
+    private ArticleRepo articleRepo;
+
+    @Autowired
+    private EditionRepo editionRepo;
+
+    @Autowired
+    private ConferenceRepo conferenceRepo;
+
+    @Autowired
+    private ResearcherRepo researcherRepo;
+
+    private Conference conference;
+    private Edition first;
+    private Edition second;
+    private Researcher researcher;
+
+    @BeforeEach
+    void setUp() {
+        assertTrue(this.publicationStatistics.rebuild());
+
+        ConferenceDTO conferenceDTO = new ConferenceDTO();
+        conferenceDTO.setName("Statistics conference");
+        this.conference = (Conference) this.conferenceService.createConference(conferenceDTO).getData();
+        this.first = createEdition(2020);
+        this.second = createEdition(2021);
+
+        ResearcherDTO researcherDTO = new ResearcherDTO();
+        researcherDTO.setName("Ada");
+        researcherDTO.setSurname("Lovelace");
+        researcherDTO.setSecSurname("Byron");
+        researcherDTO.setUniversity("London");
+        this.researcher = (Researcher) this.researcherService.createResearcher(researcherDTO).getData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.authorRepo.deleteAll();
+        this.articleRepo.deleteAll();
+        this.editionRepo.deleteAll();
+        this.conferenceRepo.deleteAll();
+        this.researcherRepo.deleteAll();
+    }
+
+    @Test
+    void servicesKeepTheCountsCurrent() {
+        assertEquals(2, count(this.statisticsService.getEditionsByConference(this.conference.getId())));
+        assertEquals(0, count(this.statisticsService.getPapersByEdition(this.first.getId())));
+        assertEquals(0, count(this.statisticsService.getPapersByResearcher(this.researcher.getId())));
+
+        Article article = createArticle(this.first);
+        createAuthor(article);
+        Author author = createAuthor(article);
+        assertEquals(1, count(this.statisticsService.getPapersByEdition(this.first.getId())));
+        assertEquals(2, count(this.statisticsService.getPapersByResearcher(this.researcher.getId())));
+
+        ArticleDTO moved = new ArticleDTO();
+        moved.setTitle(article.getTitle());
+        moved.setRef_edition(this.second.getId());
+        this.articleService.updateArticle(moved, article.getId());
+        assertEquals(0, count(this.statisticsService.getPapersByEdition(this.first.getId())));
+        assertEquals(1, count(this.statisticsService.getPapersByEdition(this.second.getId())));
+
+        this.authorService.deleteAuthor(author.getId());
+        assertEquals(1, count(this.statisticsService.getPapersByResearcher(this.researcher.getId())));
+
+        this.editionService.deleteEdition(this.first.getId());
+        assertEquals(1, count(this.statisticsService.getEditionsByConference(this.conference.getId())));
+        assertEquals(HttpStatus.NOT_FOUND, this.statisticsService.getPapersByEdition(this.first.getId()).getStatus());
+        assertNull(this.publicationStatistics.get(PublicationStatistics.Counter.PAPERS_PER_EDITION, this.first.getId()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildRepairsWritesMadeOutsideTheServices() {
+        Article article = createArticle(this.first);
+        Author author = new Author();
+        author.setArticle(article);
+        author.setResearcher(this.researcher);
+        this.authorRepo.save(author);
+        assertEquals(0, count(this.statisticsService.getPapersByResearcher(this.researcher.getId())));
+
+        ApiResponse rebuilt = this.statisticsService.rebuildStatistics();
+
+        assertEquals(HttpStatus.OK, rebuilt.getStatus());
+        assertEquals(1, count(this.statisticsService.getPapersByResearcher(this.researcher.getId())));
+        Map<Integer, Integer> papers = (Map<Integer, Integer>) this.statisticsService.getAllPapersByEdition().getData();
+        assertEquals(1, papers.get(this.first.getId()));
+        assertEquals(0, papers.get(this.second.getId()));
+    }
+
+    private Edition createEdition(int year) {
+        EditionDTO editionDTO = new EditionDTO();
+        editionDTO.setRef_conference(this.conference.getId());
+        editionDTO.setYear(year);
+        editionDTO.setDate(new Date());
+        editionDTO.setCity("Madrid");
+        return (Edition) this.editionService.createEdition(editionDTO).getData();
+    }
+
+    private Article createArticle(Edition edition) {
+        ArticleDTO articleDTO = new ArticleDTO();
+        articleDTO.setTitle("Notes on the analytical engine");
+        articleDTO.setRef_edition(edition.getId());
+        return (Article) this.articleService.createArticle(articleDTO).getData();
+    }
+
+    private Author createAuthor(Article article) {
+        AuthorDTO authorDTO = new AuthorDTO();
+        authorDTO.setRef_article(article.getId());
+        authorDTO.setRef_researcher(this.researcher.getId());
+        return (Author) this.authorService.createAuthor(authorDTO).getData();
+    }
+
+    private static long count(ApiResponse response) {
+        assertEquals(HttpStatus.OK, response.getStatus(), response.getMessage());
+        return ((IdCount) response.getData()).count();
+    }
+}